@@ -0,0 +1,41 @@
+package voyager;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import voyager.ui.Parser;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures splitting a raw command into its command word and arguments.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ParserBenchmark {
+    @Param({
+        "list",
+        "todo read book",
+        "deadline submit report /by 2026-12-01",
+        "event project meeting /from Mon 2pm /to 4pm",
+    })
+    private String input;
+
+    @Benchmark
+    public void parse(Blackhole blackhole) {
+        blackhole.consume(Parser.getCommandWord(input));
+        blackhole.consume(Parser.getArguments(input));
+    }
+}
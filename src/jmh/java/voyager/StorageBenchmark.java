@@ -0,0 +1,69 @@
+package voyager;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import voyager.task.Storage;
+import voyager.task.Task;
+import voyager.workload.TaskGenerator;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures writing and reading the whole data file.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class StorageBenchmark {
+    @Param({"1000", "100000", "1000000"})
+    private int size;
+
+    private File dataFile;
+    private Storage storage;
+    private List<Task> tasks;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        dataFile = Files.createTempFile("voyager-bench", ".txt").toFile();
+        storage = new Storage(dataFile.getPath());
+        tasks = new TaskGenerator(42).generate(size);
+        storage.save(tasks);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        dataFile.delete();
+    }
+
+    @Benchmark
+    public File save() throws IOException {
+        storage.save(tasks);
+        return dataFile;
+    }
+
+    @Benchmark
+    public List<Task> loadTasks() {
+        List<Task> loaded = new ArrayList<>(size);
+        storage.loadTasks(loaded);
+        return loaded;
+    }
+}
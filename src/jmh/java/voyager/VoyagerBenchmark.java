@@ -0,0 +1,100 @@
+package voyager;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import voyager.task.Storage;
+import voyager.task.Task;
+import voyager.ui.Ui;
+import voyager.workload.TaskGenerator;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Measures the command handlers end to end through {@link Voyager#getResponse},
+ * including the save that the sort handlers perform, plus list formatting on its own.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class VoyagerBenchmark {
+    @Param({"1000", "100000", "1000000"})
+    private int size;
+
+    private Path dataDir;
+    private File dataFile;
+    private List<Task> tasks;
+    private String findCommand;
+    private Voyager voyager;
+    private Ui ui;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        // Voyager keeps its archive and saved searches beside the data file, so each trial gets its own folder.
+        dataDir = Files.createTempDirectory("voyager-bench");
+        dataFile = dataDir.resolve("voyager.txt").toFile();
+        TaskGenerator generator = new TaskGenerator(42);
+        tasks = generator.generate(size);
+        findCommand = "find " + generator.nextWord();
+        ui = new Ui();
+    }
+
+    /**
+     * Starts every invocation from the same unsorted list, so the sort benchmarks never see sorted input.
+     */
+    @Setup(Level.Invocation)
+    public void resetVoyager() {
+        voyager = new Voyager(new Storage(dataFile.getPath()));
+        voyager.installTasks(tasks);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(dataDir)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).collect(Collectors.toList())) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Benchmark
+    public String find() {
+        return voyager.getResponse(findCommand);
+    }
+
+    @Benchmark
+    public String sortByName() {
+        return voyager.getResponse("sort");
+    }
+
+    @Benchmark
+    public String sortByDate() {
+        return voyager.getResponse("sortdate");
+    }
+
+    @Benchmark
+    public String formatTaskList() {
+        return ui.showList(tasks);
+    }
+}
@@ -0,0 +1,80 @@
+package voyager.ui;
+
+import javafx.application.Platform;
+import javafx.fxml.FXML;
+import javafx.fxml.FXMLLoader;
+import javafx.scene.control.Label;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import javafx.scene.image.WritableImage;
+import javafx.scene.layout.HBox;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how many chat messages per second can be turned into dialog boxes.
+ * {@code fxmlDialog} reproduces the old approach of loading an FXML file for every message,
+ * so one run reports the before and after numbers side by side.
+ * Needs a display, because the JavaFX toolkit has to start.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class DialogBoxBenchmark {
+    private static final String MESSAGE = "Got it. I've added this task:\n  [T][ ] read book\n"
+            + "Now you have 5 tasks in the list.";
+
+    private Image image;
+
+    /**
+     * Stands in for the controller the FXML file used to be wired to.
+     */
+    public static class FxmlDialogController {
+        @FXML
+        private Label dialog;
+        @FXML
+        private ImageView displayPicture;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        Platform.startup(started::countDown);
+        started.await();
+        image = new WritableImage(50, 50);
+    }
+
+    @Benchmark
+    public HBox codeDialog() {
+        return DialogBox.getVoyagerDialog(MESSAGE, image);
+    }
+
+    @Benchmark
+    public HBox fxmlDialog() throws IOException {
+        HBox root = new HBox();
+        FxmlDialogController controller = new FxmlDialogController();
+        FXMLLoader fxmlLoader = new FXMLLoader(DialogBoxBenchmark.class.getResource("/view/FxmlDialogBox.fxml"));
+        fxmlLoader.setController(controller);
+        fxmlLoader.setRoot(root);
+        fxmlLoader.load();
+        controller.dialog.setText(MESSAGE);
+        controller.displayPicture.setImage(image);
+        return root;
+    }
+}
@@ -1,19 +1,46 @@
 package voyager;
 
 import voyager.exception.VoyagerException;
+import voyager.cache.ResultCache;
+import voyager.metrics.AllocationCounter;
+import voyager.metrics.CommandEvent;
+import voyager.metrics.CommandStats;
+import voyager.metrics.CommandStats.Phase;
+import voyager.metrics.SearchEvent;
+import voyager.metrics.SortEvent;
+import voyager.replication.ReplicationLog;
+import voyager.replication.ReplicationServer;
+import voyager.search.SavedSearch;
+import voyager.search.SavedSearches;
+import voyager.task.Archive;
 import voyager.task.Deadline;
 import voyager.task.Event;
+import voyager.task.Occurrence;
+import voyager.task.RecurringTask;
 import voyager.task.Storage;
 import voyager.task.Task;
+import voyager.task.TaskListListener;
 import voyager.task.ToDo;
+import voyager.transfer.TaskCodec;
+import voyager.transfer.TaskExporter;
+import voyager.transfer.TaskFormat;
+import voyager.transfer.TaskImporter;
 import voyager.ui.Parser;
 import voyager.ui.Ui;
+import voyager.undo.UndoJournal;
+import voyager.workload.TraceRecorder;
 
+import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
 import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.function.Supplier;
 
 /**
  * Main entry point for the Voyager task management program.
@@ -22,88 +49,426 @@ import java.util.List;
 public class Voyager {
     private final voyager.task.TaskList taskList;
     private final Storage storage;
+    private final Archive archive;
+    private ReplicationServer replicationServer;
+    private final UndoJournal journal;
+    private final SavedSearches savedSearches;
+    private final ResultCache resultCache = new ResultCache(CACHE_MAX_ENTRIES, CACHE_MAX_CHARS);
     private final Ui ui;
+    private final CommandStats stats = new CommandStats();
 
     private static final String DEADLINE_DELIMITER = "/by";
     private static final String EVENT_FROM_DELIMITER = "/from";
     private static final String EVENT_TO_DELIMITER = "/to";
+    private static final String RECUR_EVERY_DELIMITER = "/every";
+    private static final String RECUR_UNTIL_DELIMITER = "/until";
+    private static final int IMPORT_BATCH_SIZE = 10_000;
+    private static final String ARCHIVE_FILE = "archive.gz";
+    private static final int ARCHIVE_AGE_DAYS = Integer.getInteger("voyager.archive.days", 30);
+    private static final String FIND_ALL_FLAG = "--all";
+    private static final String FIND_SAVE_FLAG = "--save";
+    private static final String SAVED_SEARCH_PREFIX = "@";
+    private static final String SEARCHES_DELETE_FLAG = "--delete";
+    private static final String SEARCHES_FILE = "searches.txt";
+    private static final int CACHE_MAX_ENTRIES = Integer.getInteger("voyager.cache.maxEntries", 128);
+    private static final long CACHE_MAX_CHARS = Long.getLong("voyager.cache.maxChars", 8_000_000);
+    private static final String REPLICATION_LOG_FILE = "replication.log";
+    private static final int UNDO_LIMIT = Integer.getInteger("voyager.undo.limit", 100);
+
+    private volatile boolean isLoaded;
+    private volatile List<Integer> skippedLines = List.of();
+    private String currentCommand;
+    private TraceRecorder traceRecorder;
+    private long saveNanos;
+    private long formatNanos;
+    private long commandBytesWritten;
 
     /**
      * Initializes a new Voyager session.
-     * Sets up the UI, storage, and loads existing tasks from disk.
+     * Sets up the UI and storage with an empty task list. Existing tasks are
+     * not read from disk until {@link #loadTasks()} or {@link #readSavedTasks} is called,
+     * so the caller decides whether loading happens up front or in the background.
      */
     public Voyager() {
-        ui = new Ui();
-        storage = new Storage();
+        this(new Storage());
+    }
+
+    /**
+     * Initializes a new Voyager session backed by the given storage.
+     *
+     * @param storage The storage to load tasks from and save tasks to.
+     */
+    public Voyager(Storage storage) {
+        this.ui = new Ui();
+        this.storage = storage;
+        this.archive = new Archive(new File(storage.getDataFile().getAbsoluteFile().getParentFile(), ARCHIVE_FILE));
         taskList = new voyager.task.TaskList(new ArrayList<>());
+        journal = new UndoJournal(taskList, UNDO_LIMIT);
+        savedSearches = new SavedSearches(taskList,
+                new File(storage.getDataFile().getAbsoluteFile().getParentFile(), SEARCHES_FILE));
+    }
 
-        storage.loadTasks(taskList.getAll());
+    /**
+     * Loads existing tasks from disk and installs them, blocking until done.
+     */
+    public void loadTasks() {
+        installTasks(readSavedTasks(null));
     }
 
     /**
-     * Generates a response for the user's chat message.
+     * Reads the saved tasks from disk without touching the live task list.
+     * Tasks done for longer than the archive age are moved to the archive on the way in.
+     * Safe to call from a background thread.
      *
-     * @param input The raw user input from the GUI text field.
-     * @return The formatted response string from the chatbot.
+     * @param listener Receives loading progress, or null if progress is not needed.
+     * @return The tasks read from disk.
      */
-    public String getResponse(String input) {
-        try {
-            String command = Parser.getCommandWord(input);
-            String args = Parser.getArguments(input);
+    public List<Task> readSavedTasks(Storage.ProgressListener listener) {
+        List<Task> loaded = new ArrayList<>();
+        skippedLines = storage.loadTasks(loaded, listener);
+        return archiveExpired(loaded);
+    }
 
-            switch (command) {
-                case "welcome_trigger":
-                    return ui.showWelcome();
+    /**
+     * Returns a warning about lines of the data file that could not be read by the last load.
+     *
+     * @return The warning, or null if every line was read.
+     */
+    public String getLoadWarning() {
+        if (skippedLines.isEmpty()) {
+            return null;
+        }
+        return ui.showSkippedLines(skippedLines, storage.getBackupFile().getPath());
+    }
 
-                case "bye":
-                    return ui.showGoodbye();
+    /**
+     * Moves tasks done for longer than the archive age out of freshly loaded tasks and into the archive,
+     * first finishing any move that was interrupted last time.
+     *
+     * @param loaded The tasks read from disk.
+     * @return The tasks that remain active. If the archive cannot be written, nothing is moved.
+     */
+    private List<Task> archiveExpired(List<Task> loaded) {
+        try {
+            if (archive.hasPendingMove()) {
+                loaded = archive.recover(loaded);
+                storage.save(loaded);
+                archive.endMove();
+            }
+        } catch (IOException e) {
+            System.out.println("Error recovering the archive.");
+            return loaded;
+        }
 
-                case "list":
-                    return ui.showList(taskList.getAll());
+        LocalDate today = LocalDate.now();
+        List<Task> active = new ArrayList<>(loaded.size());
+        List<Task> expired = new ArrayList<>();
+        for (Task task : loaded) {
+            (Archive.isExpired(task, today, ARCHIVE_AGE_DAYS) ? expired : active).add(task);
+        }
+        if (expired.isEmpty()) {
+            return loaded;
+        }
 
-                case "todo":
-                    return handleTodo(args);
+        try {
+            archive.beginMove(expired);
+        } catch (IOException e) {
+            System.out.println("Error archiving tasks.");
+            return loaded;
+        }
+        try {
+            storage.save(active);
+            archive.endMove();
+        } catch (IOException e) {
+            // The tasks are safely in the archive; the next archive command or restart finishes the move.
+            System.out.println("Error saving tasks after archiving.");
+        }
+        return active;
+    }
 
-                case "deadline":
-                    return handleDeadline(args);
+    /**
+     * Installs tasks previously read by {@link #readSavedTasks} and marks the session as loaded.
+     * Must be called on the thread that handles user commands.
+     *
+     * @param loaded The tasks read from disk.
+     */
+    public void installTasks(List<Task> loaded) {
+        taskList.addAll(loaded);
+        isLoaded = true;
+    }
 
-                case "event":
-                    return handleEvent(args);
+    /**
+     * Registers a listener that is notified of every change to the task list,
+     * including the tasks installed when loading completes.
+     *
+     * @param listener Listener to add.
+     */
+    public void addTaskListListener(TaskListListener listener) {
+        taskList.addListener(listener);
+    }
 
-                case "mark":
-                    voyager.task.Task marked = taskList.mark(Integer.parseInt(args) - 1);
-                    storage.save(taskList.getAll());
-                    return ui.showTaskMarked(marked);
+    /**
+     * Returns whether the saved tasks have been installed yet.
+     *
+     * @return True once loading has completed.
+     */
+    public boolean isLoaded() {
+        return isLoaded;
+    }
 
-                case "unmark":
-                    voyager.task.Task unmarked = taskList.unmark(Integer.parseInt(args) - 1);
-                    storage.save(taskList.getAll());
-                    return ui.showTaskUnmarked(unmarked);
+    /**
+     * Starts writing the {@code stats} report to {@code stats.txt} next to the data file at a fixed interval.
+     *
+     * @param intervalSeconds Seconds between dumps.
+     */
+    public void startStatsDump(long intervalSeconds) {
+        File dataFolder = storage.getDataFile().getAbsoluteFile().getParentFile();
+        stats.startPeriodicDump(new File(dataFolder, "stats.txt"), intervalSeconds);
+    }
 
-                case "delete":
-                    return handleDelete(args);
+    /**
+     * Starts shipping every change to the task list to followers connecting on the given port.
+     * The replication log starts from a snapshot of the current tasks, so this must be called
+     * after the saved tasks have been installed.
+     *
+     * @param port Port to listen on for followers, on the loopback interface only.
+     * @throws IOException If the replication log cannot be written or the port cannot be bound.
+     */
+    public void startReplication(int port) throws IOException {
+        assert isLoaded : "Replication should start after the saved tasks are installed";
+        File dataFolder = storage.getDataFile().getAbsoluteFile().getParentFile();
+        ReplicationLog log = new ReplicationLog(new File(dataFolder, REPLICATION_LOG_FILE));
+        log.reset(taskList.getAll());
+        taskList.addListener(log);
+        replicationServer = new ReplicationServer(log, port);
+        replicationServer.start();
+    }
 
-                case "find":
-                    return handleFind(args);
+    /**
+     * Appends every command from now on to a trace file that the workload replayer can replay.
+     *
+     * @param traceFile The trace file to append to.
+     * @throws IOException If the trace file cannot be opened.
+     */
+    public void startTraceRecording(File traceFile) throws IOException {
+        traceRecorder = new TraceRecorder(traceFile);
+    }
 
-                case "sort":
-                    return handleSortByName();
+    /**
+     * Generates a response for the user's chat message.
+     * The time spent parsing, handling, saving and formatting is recorded per command for the
+     * {@code stats} command, and each command is emitted as a {@link CommandEvent} to Flight Recorder.
+     *
+     * @param input The raw user input from the GUI text field.
+     * @return The formatted response string from the chatbot.
+     */
+    public String getResponse(String input) {
+        CommandEvent event = new CommandEvent();
+        event.begin();
+        long allocatedBefore = event.isEnabled() ? AllocationCounter.currentThreadAllocatedBytes() : 0;
 
-                case "sortdate":
-                    return handleSortByDate();
+        if (traceRecorder != null) {
+            traceRecorder.record(input);
+        }
 
-                default:
-                    throw new VoyagerException("OOPS!!! I'm sorry, but I don't know what that means :-(");
-            }
+        long parseStart = System.nanoTime();
+        String command = Parser.getCommandWord(input);
+        String args = Parser.getArguments(input);
+        long handleStart = System.nanoTime();
+        stats.record(command, Phase.PARSE, handleStart - parseStart);
+
+        currentCommand = command;
+        saveNanos = 0;
+        formatNanos = 0;
+        commandBytesWritten = 0;
+        journal.begin(command);
+        try {
+            return handleCommand(command, args);
         } catch (VoyagerException e) {
             return e.getMessage();
         } catch (NumberFormatException e) {
             return "OOPS!!! Please enter a valid task number.";
         } catch (Exception e) {
             return "An unexpected error occurred: " + e.getMessage();
+        } finally {
+            journal.commit();
+            long handleNanos = System.nanoTime() - handleStart - saveNanos - formatNanos;
+            stats.record(command, Phase.HANDLE, handleNanos);
+            commitCommandEvent(event, command, allocatedBefore);
+        }
+    }
+
+    private void commitCommandEvent(CommandEvent event, String command, long allocatedBefore) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.command = command;
+            event.taskCount = taskList.size();
+            event.bytesWritten = commandBytesWritten;
+            event.allocatedBytes = AllocationCounter.currentThreadAllocatedBytes() - allocatedBefore;
+            event.commit();
         }
     }
 
+    /**
+     * Dispatches a parsed command to its handler.
+     *
+     * @param command The command word.
+     * @param args    The arguments following the command word.
+     * @return The formatted response string from the chatbot.
+     */
+    private String handleCommand(String command, String args) throws VoyagerException, IOException {
+        switch (command) {
+            case "welcome_trigger":
+                return format(ui::showWelcome);
+
+            case "bye":
+                stats.dump();
+                return format(ui::showGoodbye);
+
+            case "list":
+                return cached(command, ResultCache.key(command, args), () -> {
+                    stats.addTasksScanned(taskList.size());
+                    return format(() -> ui.showList(taskList.getAll()));
+                });
+
+            case "todo":
+                return handleTodo(args);
+
+            case "deadline":
+                return handleDeadline(args);
+
+            case "event":
+                return handleEvent(args);
+
+            case "recur":
+                return handleRecur(args);
+
+            case "mark":
+                voyager.task.Task marked = taskList.mark(Integer.parseInt(args) - 1);
+                saveTasks();
+                return format(() -> ui.showTaskMarked(marked));
+
+            case "unmark":
+                voyager.task.Task unmarked = taskList.unmark(Integer.parseInt(args) - 1);
+                saveTasks();
+                return format(() -> ui.showTaskUnmarked(unmarked));
+
+            case "delete":
+                return handleDelete(args);
+
+            case "find":
+                if (isSavedSearchCommand(args)) {
+                    return handleFind(args);
+                }
+                return cached(command, findCacheKey(args), () -> handleFind(args));
+
+            case "sort":
+                return handleSortByName();
+
+            case "sortdate":
+                return handleSortByDate();
+
+            case "agenda":
+                return cached(command, ResultCache.key(command, args), () -> handleAgenda(args));
+
+            case "stats":
+                return format(() -> stats.report() + "\n" + resultCache.report());
+
+            case "import":
+                return handleImport(args);
+
+            case "export":
+                return handleExport(args);
+
+            case "archive":
+                return handleArchive(args);
+
+            case "searches":
+                return handleSearches(args);
+
+            case "undo":
+                return handleUndo();
+
+            case "redo":
+                return handleRedo();
+
+            case "replstatus":
+                if (replicationServer == null) {
+                    throw new VoyagerException("OOPS!!! Replication is not enabled. "
+                            + "Start Voyager with -Dvoyager.replication.port=PORT to enable it.");
+                }
+                return format(replicationServer::report);
+
+            default:
+                throw new VoyagerException("OOPS!!! I'm sorry, but I don't know what that means :-(");
+        }
+    }
+
+    /**
+     * Returns the cached response to a read-only command, or runs it and caches the response.
+     * A cached response is reused until the task list changes; errors are never cached.
+     *
+     * @param command The command word.
+     * @param key     The normalized command, such as one from {@link ResultCache#key}.
+     * @param handler Computes the response on a miss.
+     * @return The response.
+     */
+    private String cached(String command, String key, ReadOnlyHandler handler) throws VoyagerException, IOException {
+        long version = taskList.getVersion();
+        String response = resultCache.get(command, key, version);
+        if (response == null) {
+            response = handler.handle();
+            resultCache.put(key, version, response);
+        }
+        return response;
+    }
+
+    /**
+     * Returns whether a 'find' command saves or recalls a saved search. Those are not cached, as saving
+     * a search changes what a recall returns without changing the task list.
+     */
+    private static boolean isSavedSearchCommand(String args) {
+        return args.equals(FIND_SAVE_FLAG) || args.startsWith(FIND_SAVE_FLAG + " ")
+                || args.startsWith(SAVED_SEARCH_PREFIX);
+    }
+
+    /**
+     * Computes the response to a read-only command.
+     */
+    private interface ReadOnlyHandler {
+        String handle() throws VoyagerException, IOException;
+    }
+
+    /**
+     * Saves the whole task list, recording the time taken and bytes written.
+     *
+     * @throws IOException If saving to disk fails.
+     */
+    private void saveTasks() throws IOException {
+        long start = System.nanoTime();
+        long bytesWritten = storage.save(taskList.getAll());
+        long elapsed = System.nanoTime() - start;
+        saveNanos += elapsed;
+        commandBytesWritten += bytesWritten;
+        stats.record(currentCommand, Phase.SAVE, elapsed);
+        stats.addBytesWritten(bytesWritten);
+    }
+
+    /**
+     * Builds a response with the UI, recording the time taken.
+     *
+     * @param formatter Produces the response string.
+     * @return The response string.
+     */
+    private String format(Supplier<String> formatter) {
+        long start = System.nanoTime();
+        String response = formatter.get();
+        long elapsed = System.nanoTime() - start;
+        formatNanos += elapsed;
+        stats.record(currentCommand, Phase.FORMAT, elapsed);
+        return response;
+    }
+
     /**
      * Processes the 'todo' command by creating and adding a new ToDo task.
      *
@@ -117,8 +482,8 @@ public class Voyager {
         }
         Task todo = new ToDo(args); // Note: removed the long voyager.task prefix
         taskList.add(todo);
-        storage.save(taskList.getAll());
-        return ui.showTaskAdded(todo, taskList.size());
+        saveTasks();
+        return format(() -> ui.showTaskAdded(todo, taskList.size()));
     }
 
     /**
@@ -139,8 +504,8 @@ public class Voyager {
                     deadlineParts[0].trim(),
                     LocalDate.parse(deadlineParts[1].trim()));
             taskList.add(deadline);
-            storage.save(taskList.getAll());
-            return ui.showTaskAdded(deadline, taskList.size());
+            saveTasks();
+            return format(() -> ui.showTaskAdded(deadline, taskList.size()));
         } catch (DateTimeParseException e) {
             throw new VoyagerException("OOPS!!! Please enter the date in yyyy-mm-dd format.");
         }
@@ -165,8 +530,243 @@ public class Voyager {
 
         Task event = new Event(eventParts[0].trim(), eventParts[1].trim(), eventParts[2].trim());
         taskList.add(event);
-        storage.save(taskList.getAll()); // This is the line that needs the throws clause
-        return ui.showTaskAdded(event, taskList.size());
+        saveTasks();
+        return format(() -> ui.showTaskAdded(event, taskList.size()));
+    }
+
+    /**
+     * Processes the 'recur' command by adding a task that repeats every week or month.
+     * Only the rule is stored; occurrences are computed when a query needs them.
+     *
+     * @param args The input containing description, /every, /from and an optional /until.
+     * @return A confirmation message from the UI.
+     * @throws VoyagerException If the required delimiters are missing or a date is invalid.
+     * @throws IOException      If saving to disk fails.
+     */
+    private String handleRecur(String args) throws VoyagerException, IOException {
+        String regex = RECUR_EVERY_DELIMITER + "|" + EVENT_FROM_DELIMITER + "|" + RECUR_UNTIL_DELIMITER;
+        String[] recurParts = args.split(regex);
+        if (recurParts.length < 3 || recurParts[0].isBlank()) {
+            throw new VoyagerException(
+                    "OOPS!!! Please use: recur [desc] /every [week|month] /from [yyyy-mm-dd] /until [yyyy-mm-dd]");
+        }
+
+        RecurringTask.Frequency frequency = RecurringTask.Frequency.fromWord(recurParts[1].trim());
+        if (frequency == null) {
+            throw new VoyagerException("OOPS!!! A task can only repeat every week or every month.");
+        }
+
+        try {
+            LocalDate start = LocalDate.parse(recurParts[2].trim());
+            LocalDate until = recurParts.length > 3 ? LocalDate.parse(recurParts[3].trim()) : null;
+            Task recurring = new RecurringTask(recurParts[0].trim(), start, frequency, until);
+            taskList.add(recurring);
+            saveTasks();
+            return format(() -> ui.showTaskAdded(recurring, taskList.size()));
+        } catch (DateTimeParseException e) {
+            throw new VoyagerException("OOPS!!! Please enter the date in yyyy-mm-dd format.");
+        }
+    }
+
+    /**
+     * Processes the 'agenda' command by listing everything due within a date range.
+     * Recurring tasks are expanded only inside the requested range.
+     *
+     * @param args The input containing /from and /to dates.
+     * @return The occurrences in date order.
+     * @throws VoyagerException If the dates are missing, invalid or out of order.
+     */
+    private String handleAgenda(String args) throws VoyagerException {
+        String[] rangeParts = args.split(EVENT_FROM_DELIMITER + "|" + EVENT_TO_DELIMITER);
+        if (rangeParts.length < 3) {
+            throw new VoyagerException("OOPS!!! Please use: agenda /from [yyyy-mm-dd] /to [yyyy-mm-dd]");
+        }
+
+        LocalDate from;
+        LocalDate to;
+        try {
+            from = LocalDate.parse(rangeParts[1].trim());
+            to = LocalDate.parse(rangeParts[2].trim());
+        } catch (DateTimeParseException e) {
+            throw new VoyagerException("OOPS!!! Please enter the date in yyyy-mm-dd format.");
+        }
+        if (to.isBefore(from)) {
+            throw new VoyagerException("OOPS!!! The end of the range cannot be before the start.");
+        }
+
+        stats.addTasksScanned(taskList.size());
+        List<Occurrence> occurrences = new ArrayList<>();
+        for (Task task : taskList.getAll()) {
+            if (task instanceof Deadline) {
+                LocalDate by = ((Deadline) task).getBy();
+                if (!by.isBefore(from) && !by.isAfter(to)) {
+                    occurrences.add(new Occurrence(by, task));
+                }
+            } else if (task instanceof RecurringTask) {
+                for (LocalDate date : ((RecurringTask) task).occurrencesBetween(from, to)) {
+                    occurrences.add(new Occurrence(date, task));
+                }
+            }
+        }
+        occurrences.sort(Comparator.comparing(Occurrence::getDate));
+        return format(() -> ui.showAgenda(occurrences));
+    }
+
+    /**
+     * Processes the 'import' command by streaming tasks from a CSV or JSON Lines file.
+     * Tasks are added and appended to the data file one batch at a time; invalid lines are skipped.
+     *
+     * @param args The path of the file to import.
+     * @return A summary of the imported and skipped lines.
+     * @throws VoyagerException If the path is missing, unreadable or has an unsupported extension.
+     * @throws IOException      If saving to disk fails.
+     */
+    private String handleImport(String args) throws VoyagerException, IOException {
+        Path file = getTransferPath(args, "import");
+        if (!Files.isReadable(file)) {
+            throw new VoyagerException("OOPS!!! I cannot read " + args + ".");
+        }
+
+        TaskCodec codec = TaskFormat.fromFileName(args).createCodec();
+        TaskImporter.ImportResult result = new TaskImporter(IMPORT_BATCH_SIZE)
+                .importFrom(file, codec, this::appendTasks);
+        stats.addTasksScanned(result.getImportedCount() + result.getRejectedCount());
+        return format(() -> ui.showImported(result.getImportedCount(), result.getRejectedCount(),
+                result.getErrors(), taskList.size()));
+    }
+
+    /**
+     * Processes the 'export' command by streaming every task to a CSV or JSON Lines file.
+     *
+     * @param args The path of the file to write.
+     * @return A confirmation message.
+     * @throws VoyagerException If the path is missing or has an unsupported extension, or a task
+     *                          cannot be written in that format.
+     * @throws IOException      If writing the file fails.
+     */
+    private String handleExport(String args) throws VoyagerException, IOException {
+        Path file = getTransferPath(args, "export");
+        TaskCodec codec = TaskFormat.fromFileName(args).createCodec();
+        stats.addTasksScanned(taskList.size());
+        new TaskExporter().exportTo(taskList.getAll(), file, codec);
+        return format(() -> ui.showExported(taskList.size(), args));
+    }
+
+    private static Path getTransferPath(String args, String command) throws VoyagerException {
+        if (args.isEmpty()) {
+            throw new VoyagerException("OOPS!!! Please use: " + command + " [file.csv|file.jsonl]");
+        }
+        if (TaskFormat.fromFileName(args) == null) {
+            throw new VoyagerException("OOPS!!! I can only " + command + " .csv and .jsonl files.");
+        }
+        try {
+            return Path.of(args);
+        } catch (InvalidPathException e) {
+            throw new VoyagerException("OOPS!!! " + args + " is not a valid file path.");
+        }
+    }
+
+    /**
+     * Adds a batch of imported tasks and appends them to the data file, recording the time taken
+     * and bytes written.
+     *
+     * @param batch The tasks to add.
+     * @throws IOException If saving to disk fails.
+     */
+    private void appendTasks(List<Task> batch) throws IOException {
+        taskList.addAll(batch);
+        long start = System.nanoTime();
+        long bytesWritten = storage.append(batch);
+        long elapsed = System.nanoTime() - start;
+        saveNanos += elapsed;
+        commandBytesWritten += bytesWritten;
+        stats.record(currentCommand, Phase.SAVE, elapsed);
+        stats.addBytesWritten(bytesWritten);
+    }
+
+    /**
+     * Processes the 'archive' command by moving tasks that have been done for a while into the archive.
+     * The tasks are appended to the archive before they are removed, so a failure never loses them.
+     *
+     * @param args The minimum number of days since completion, or empty for the configured default.
+     * @return A summary of how many tasks were archived.
+     * @throws VoyagerException If the number of days is invalid.
+     * @throws IOException      If writing the archive or saving to disk fails.
+     */
+    private String handleArchive(String args) throws VoyagerException, IOException {
+        int days;
+        try {
+            days = args.isEmpty() ? ARCHIVE_AGE_DAYS : Integer.parseInt(args);
+        } catch (NumberFormatException e) {
+            throw new VoyagerException("OOPS!!! Please use: archive [days]");
+        }
+        if (days < 0) {
+            throw new VoyagerException("OOPS!!! The number of days cannot be negative.");
+        }
+
+        LocalDate today = LocalDate.now();
+        stats.addTasksScanned(taskList.size());
+        List<Task> expired = new ArrayList<>();
+        for (Task task : taskList.getAll()) {
+            if (Archive.isExpired(task, today, days)) {
+                expired.add(task);
+            }
+        }
+        if (expired.isEmpty()) {
+            return format(() -> ui.showArchived(0, days, taskList.size()));
+        }
+
+        if (archive.hasPendingMove()) {
+            // An earlier move could not save the data file; the list no longer holds its tasks.
+            saveTasks();
+            archive.endMove();
+        }
+        long start = System.nanoTime();
+        long bytesWritten = archive.beginMove(expired);
+        long elapsed = System.nanoTime() - start;
+        saveNanos += elapsed;
+        commandBytesWritten += bytesWritten;
+        stats.record(currentCommand, Phase.SAVE, elapsed);
+        stats.addBytesWritten(bytesWritten);
+
+        taskList.removeIf(task -> Archive.isExpired(task, today, days));
+        // Archived tasks are already in the append-only archive, so restoring them would duplicate them.
+        journal.clear();
+        saveTasks();
+        archive.endMove();
+        return format(() -> ui.showArchived(expired.size(), days, taskList.size()));
+    }
+
+    /**
+     * Processes the 'undo' command by reversing the most recent command that changed the list.
+     *
+     * @return A confirmation message naming the undone command.
+     * @throws VoyagerException If the list can no longer be restored.
+     * @throws IOException      If saving to disk fails.
+     */
+    private String handleUndo() throws VoyagerException, IOException {
+        String undone = journal.undo();
+        if (undone == null) {
+            return format(() -> ui.showMessage("There is nothing to undo."));
+        }
+        saveTasks();
+        return format(() -> ui.showUndone(undone, taskList.size()));
+    }
+
+    /**
+     * Processes the 'redo' command by applying the most recently undone command again.
+     *
+     * @return A confirmation message naming the redone command.
+     * @throws VoyagerException If the list can no longer be restored.
+     * @throws IOException      If saving to disk fails.
+     */
+    private String handleRedo() throws VoyagerException, IOException {
+        String redone = journal.redo();
+        if (redone == null) {
+            return format(() -> ui.showMessage("There is nothing to redo."));
+        }
+        saveTasks();
+        return format(() -> ui.showRedone(redone, taskList.size()));
     }
 
     /**
@@ -180,33 +780,148 @@ public class Voyager {
         try {
             int index = Integer.parseInt(args) - 1;
             Task removed = taskList.remove(index);
-            storage.save(taskList.getAll());
-            return ui.showTaskRemoved(removed, taskList.size());
+            saveTasks();
+            return format(() -> ui.showTaskRemoved(removed, taskList.size()));
         } catch (NumberFormatException | IndexOutOfBoundsException e) {
             throw new VoyagerException("OOPS!!! Please enter a valid task number.");
         }
     }
 
+    /**
+     * Returns whether a search also covers the archive.
+     */
+    private static boolean isFindAllCommand(String args) {
+        return args.equals(FIND_ALL_FLAG) || args.startsWith(FIND_ALL_FLAG + " ");
+    }
+
+    /**
+     * Builds the cache key for a plain or archive-wide search from its parsed flag and keyword.
+     * Matching ignores case, so only the keyword is lowercased, after the flag has been read.
+     * Spaces inside the keyword are matched literally, so they are kept as typed.
+     *
+     * @param args The arguments of the {@code find} command.
+     * @return The cache key.
+     */
+    private static String findCacheKey(String args) {
+        boolean includesArchive = isFindAllCommand(args);
+        String keyword = includesArchive ? args.substring(FIND_ALL_FLAG.length()).trim() : args;
+        return "find\t" + (includesArchive ? FIND_ALL_FLAG : "") + "\t" + keyword.toLowerCase();
+    }
+
     /**
      * Processes the 'find' command by finding the task .
+     * With {@code --all} before the keyword, archived tasks are searched as well.
+     * {@code --save name keyword} saves the search and {@code @name} recalls a saved search.
      *
      * @return A confirmation message from the UI.
      * @throws VoyagerException If the required delimiters are missing.
+     * @throws IOException      If reading the archive fails.
      */
-    private String handleFind(String args) throws VoyagerException {
-        if (args.isEmpty()) {
+    private String handleFind(String args) throws VoyagerException, IOException {
+        if (args.equals(FIND_SAVE_FLAG) || args.startsWith(FIND_SAVE_FLAG + " ")) {
+            return handleSaveSearch(args.substring(FIND_SAVE_FLAG.length()).trim());
+        }
+        if (args.startsWith(SAVED_SEARCH_PREFIX)) {
+            return handleRecallSearch(args.substring(SAVED_SEARCH_PREFIX.length()).trim());
+        }
+
+        boolean includesArchive = isFindAllCommand(args);
+        String keyword = includesArchive ? args.substring(FIND_ALL_FLAG.length()).trim() : args;
+        if (keyword.isEmpty()) {
             throw new VoyagerException("OOPS!!! The search keyword cannot be empty.");
         }
+        String lowerKeyword = keyword.toLowerCase();
+
+        SearchEvent event = new SearchEvent();
+        event.begin();
+        long allocatedBefore = event.isEnabled() ? AllocationCounter.currentThreadAllocatedBytes() : 0;
 
         List<Task> allTasks = taskList.getAll();
+        stats.addTasksScanned(allTasks.size());
         List<Task> matchingTasks = new ArrayList<>();
 
         for (Task task : allTasks) {
-            if (task.getDescription().toLowerCase().contains(args.toLowerCase())) {
+            if (task.getDescription().toLowerCase().contains(lowerKeyword)) {
                 matchingTasks.add(task);
             }
         }
-        return ui.showFoundTasks(matchingTasks);
+        List<Task> archivedMatches = includesArchive
+                ? archive.find(task -> task.getDescription().toLowerCase().contains(lowerKeyword))
+                : List.of();
+
+        event.end();
+        if (event.shouldCommit()) {
+            event.keyword = keyword;
+            event.tasksScanned = allTasks.size();
+            event.matches = matchingTasks.size() + archivedMatches.size();
+            event.allocatedBytes = AllocationCounter.currentThreadAllocatedBytes() - allocatedBefore;
+            event.commit();
+        }
+        if (includesArchive) {
+            return format(() -> ui.showFoundTasks(matchingTasks, archivedMatches));
+        }
+        return format(() -> ui.showFoundTasks(matchingTasks));
+    }
+
+    /**
+     * Saves a search under a name so that its results are maintained as the list changes.
+     *
+     * @param args The name followed by the keyword.
+     * @return The current results of the search.
+     * @throws VoyagerException If the name or keyword is missing.
+     * @throws IOException      If the saved searches cannot be written.
+     */
+    private String handleSaveSearch(String args) throws VoyagerException, IOException {
+        String[] parts = args.split("\\s+", 2);
+        if (parts.length < 2 || parts[1].isBlank()) {
+            throw new VoyagerException("OOPS!!! Please use: find --save [name] [keyword]");
+        }
+        String name = parts[0];
+        if (name.startsWith(SAVED_SEARCH_PREFIX) || name.contains("|")) {
+            throw new VoyagerException("OOPS!!! A search name cannot start with @ or contain |.");
+        }
+
+        stats.addTasksScanned(taskList.size());
+        SavedSearch search = savedSearches.save(name, parts[1].trim());
+        List<Task> results = search.getResults(taskList.getAll());
+        return format(() -> ui.showSavedSearch(search, results));
+    }
+
+    /**
+     * Shows the current results of a saved search, in time proportional to the number of results.
+     *
+     * @param name The name of the search.
+     * @return The matching tasks.
+     * @throws VoyagerException If there is no search with that name.
+     */
+    private String handleRecallSearch(String name) throws VoyagerException {
+        SavedSearch search = savedSearches.get(name);
+        if (search == null) {
+            throw new VoyagerException("OOPS!!! There is no saved search called '" + name + "'.");
+        }
+        List<Task> results = search.getResults(taskList.getAll());
+        stats.addTasksScanned(results.size());
+        return format(() -> ui.showFoundTasks(results));
+    }
+
+    /**
+     * Processes the 'searches' command by listing the saved searches with their match counts,
+     * or deleting one with {@code --delete name}.
+     *
+     * @param args Empty, or the delete flag followed by a search name.
+     * @return The saved searches, or a confirmation of the deletion.
+     * @throws VoyagerException If the search to delete does not exist.
+     * @throws IOException      If the saved searches cannot be written.
+     */
+    private String handleSearches(String args) throws VoyagerException, IOException {
+        if (args.startsWith(SEARCHES_DELETE_FLAG)) {
+            String name = args.substring(SEARCHES_DELETE_FLAG.length()).trim();
+            if (!savedSearches.delete(name)) {
+                throw new VoyagerException("OOPS!!! There is no saved search called '" + name + "'.");
+            }
+            return format(() -> ui.showMessage("Deleted the saved search '" + name + "'."));
+        }
+        return format(() -> ui.showSavedSearches(savedSearches.getAll()));
     }
 
     /**
@@ -216,33 +931,76 @@ public class Voyager {
      * @return A confirmation message with the sorted list.
      */
     private String handleSortByName() throws IOException{
-        taskList.getAll().sort((t1, t2) ->
+        stats.addTasksScanned(taskList.size());
+        sortTasks("name", (t1, t2) ->
                 t1.getDescription().compareToIgnoreCase(t2.getDescription()));
 
-        storage.save(taskList.getAll());
-        return ui.showList(taskList.getAll());
+        saveTasks();
+        return format(() -> ui.showList(taskList.getAll()));
     }
 
     /**
-     * Sorts tasks such that Deadlines come first (by date), followed by others.
+     * Sorts tasks such that dated tasks come first, followed by others.
+     * Deadlines are ordered by due date and recurring tasks by their next occurrence from today.
      *
      * @throws IOException      If saving to disk fails.
      * @return A confirmation message with the sorted list.
      */
     private String handleSortByDate() throws IOException {
-        taskList.getAll().sort((t1, t2) -> {
-            boolean isT1Deadline = t1 instanceof Deadline;
-            boolean isT2Deadline = t2 instanceof Deadline;
-
-            if (isT1Deadline && isT2Deadline) {
-                return ((Deadline) t1).getBy().compareTo(((Deadline) t2).getBy());
+        stats.addTasksScanned(taskList.size());
+        LocalDate today = LocalDate.now();
+        sortTasks("date", (t1, t2) -> {
+            LocalDate d1 = getSortDate(t1, today);
+            LocalDate d2 = getSortDate(t2, today);
+
+            if (d1 != null && d2 != null) {
+                return d1.compareTo(d2);
             }
-            if (isT1Deadline) return -1;
-            if (isT2Deadline) return 1;
+            if (d1 != null) return -1;
+            if (d2 != null) return 1;
             return 0;
         });
 
-        storage.save(taskList.getAll());
-        return ui.showList(taskList.getAll());
+        saveTasks();
+        return format(() -> ui.showList(taskList.getAll()));
+    }
+
+    /**
+     * Returns the date a task is ordered by in 'sortdate'.
+     *
+     * @param task  The task.
+     * @param today The date recurring tasks look for their next occurrence from.
+     * @return The due date or next occurrence, or null if the task has no date.
+     */
+    private static LocalDate getSortDate(Task task, LocalDate today) {
+        if (task instanceof Deadline) {
+            return ((Deadline) task).getBy();
+        }
+        if (task instanceof RecurringTask) {
+            return ((RecurringTask) task).nextOccurrence(today);
+        }
+        return null;
+    }
+
+    /**
+     * Sorts the task list, emitting a {@link SortEvent} to Flight Recorder.
+     *
+     * @param order      What the list is sorted by, for the event.
+     * @param comparator Ordering to sort by.
+     */
+    private void sortTasks(String order, Comparator<Task> comparator) {
+        SortEvent event = new SortEvent();
+        event.begin();
+        long allocatedBefore = event.isEnabled() ? AllocationCounter.currentThreadAllocatedBytes() : 0;
+
+        taskList.sort(comparator);
+
+        event.end();
+        if (event.shouldCommit()) {
+            event.order = order;
+            event.taskCount = taskList.size();
+            event.allocatedBytes = AllocationCounter.currentThreadAllocatedBytes() - allocatedBefore;
+            event.commit();
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,121 @@
+package voyager.cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Caches the responses of read-only commands until the task list changes.
+ *
+ * <p>Entries are keyed on the normalized command and tagged with the task list version they were
+ * computed from. As soon as a lookup sees a newer version, every entry is dropped, so a mutation
+ * invalidates the cache without the cache having to listen for it. Entries are evicted least
+ * recently used first once the cache holds too many entries or too many characters.
+ * Not thread-safe: it is only used from the thread that handles commands.
+ */
+public class ResultCache {
+    private final int maxEntries;
+    private final long maxChars;
+    private final LinkedHashMap<String, String> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<String, long[]> hitsAndMisses = new TreeMap<>();
+    private long version = -1;
+    private long cachedChars;
+    private long evictions;
+    private long invalidations;
+
+    /**
+     * Creates an empty cache.
+     *
+     * @param maxEntries Maximum number of cached responses.
+     * @param maxChars   Maximum total length of the cached responses.
+     */
+    public ResultCache(int maxEntries, long maxChars) {
+        assert maxEntries > 0 : "Cache should hold at least one entry";
+        this.maxEntries = maxEntries;
+        this.maxChars = maxChars;
+    }
+
+    /**
+     * Builds the cache key for a command: the command word and its arguments with runs of
+     * whitespace collapsed, so that commands differing only in spacing share an entry.
+     *
+     * @param command The command word.
+     * @param args    The arguments.
+     * @return The cache key.
+     */
+    public static String key(String command, String args) {
+        return args.isEmpty() ? command : command + " " + args.trim().replaceAll("\\s+", " ");
+    }
+
+    /**
+     * Returns the cached response for a command if the task list has not changed since it was stored.
+     *
+     * @param command The command word, used to attribute the hit or miss.
+     * @param key     The cache key from {@link #key}.
+     * @param version The current task list version.
+     * @return The cached response, or null on a miss.
+     */
+    public String get(String command, String key, long version) {
+        invalidateIfStale(version);
+        String response = entries.get(key);
+        hitsAndMisses.computeIfAbsent(command, c -> new long[2])[response != null ? 0 : 1]++;
+        return response;
+    }
+
+    /**
+     * Stores the response to a command computed at the given task list version.
+     *
+     * @param key      The cache key from {@link #key}.
+     * @param version  The task list version the response was computed from.
+     * @param response The response.
+     */
+    public void put(String key, long version, String response) {
+        invalidateIfStale(version);
+        if (response.length() > maxChars) {
+            return;
+        }
+        String previous = entries.put(key, response);
+        if (previous != null) {
+            cachedChars -= previous.length();
+        }
+        cachedChars += response.length();
+
+        Iterator<String> eldest = entries.values().iterator();
+        while (entries.size() > maxEntries || cachedChars > maxChars) {
+            cachedChars -= eldest.next().length();
+            eldest.remove();
+            evictions++;
+        }
+    }
+
+    private void invalidateIfStale(long currentVersion) {
+        if (currentVersion == version) {
+            return;
+        }
+        if (!entries.isEmpty()) {
+            invalidations++;
+        }
+        entries.clear();
+        cachedChars = 0;
+        version = currentVersion;
+    }
+
+    /**
+     * Returns the hit rate of each cached command and the cache's size, for the {@code stats} report.
+     *
+     * @return The cache report.
+     */
+    public String report() {
+        StringBuilder sb = new StringBuilder("Result cache: ").append(entries.size()).append(" entries, ")
+                .append(cachedChars).append(" chars, ").append(evictions).append(" evictions, ")
+                .append(invalidations).append(" invalidations");
+        for (Map.Entry<String, long[]> entry : hitsAndMisses.entrySet()) {
+            long hits = entry.getValue()[0];
+            long misses = entry.getValue()[1];
+            sb.append(String.format("%n  %-10s %d hits, %d misses (%.1f%% hit rate)",
+                    entry.getKey(), hits, misses, 100.0 * hits / (hits + misses)));
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,34 @@
+package voyager.metrics;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Reads the number of bytes the current thread has allocated so far, where the JVM supports it.
+ */
+public class AllocationCounter {
+    private static final com.sun.management.ThreadMXBean THREAD_BEAN = findThreadBean();
+
+    /**
+     * Returns the bytes allocated by the current thread since it started.
+     *
+     * @return Allocated bytes, or 0 if the JVM cannot measure allocation.
+     */
+    public static long currentThreadAllocatedBytes() {
+        if (THREAD_BEAN == null) {
+            return 0;
+        }
+        return Math.max(0, THREAD_BEAN.getCurrentThreadAllocatedBytes());
+    }
+
+    private static com.sun.management.ThreadMXBean findThreadBean() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (!(bean instanceof com.sun.management.ThreadMXBean)) {
+            return null;
+        }
+        com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean) bean;
+        if (!threadBean.isThreadAllocatedMemorySupported() || !threadBean.isThreadAllocatedMemoryEnabled()) {
+            return null;
+        }
+        return threadBean;
+    }
+}
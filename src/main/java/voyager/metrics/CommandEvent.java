@@ -0,0 +1,32 @@
+package voyager.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event covering the handling of one user command, from parsing to the formatted response.
+ */
+@Name("voyager.Command")
+@Label("Voyager Command")
+@Category("Voyager")
+@Description("Handling of a single user command")
+public class CommandEvent extends jdk.jfr.Event {
+    @Label("Command")
+    public String command;
+
+    @Label("Task Count")
+    @Description("Number of tasks in the list after the command")
+    public int taskCount;
+
+    @Label("Bytes Written")
+    @DataAmount
+    public long bytesWritten;
+
+    @Label("Allocated")
+    @Description("Bytes allocated by the handling thread during the command")
+    @DataAmount
+    public long allocatedBytes;
+}
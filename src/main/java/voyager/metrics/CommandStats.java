@@ -0,0 +1,177 @@
+package voyager.metrics;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Collects per-command, per-phase latency histograms and workload counters.
+ * Recording is a map lookup and a histogram increment under an uncontended lock, so it stays
+ * cheap enough to leave on. Set the system property {@code voyager.stats} to {@code false}
+ * to turn recording off entirely.
+ */
+public class CommandStats {
+    /**
+     * The phases a command's latency is split into.
+     */
+    public enum Phase {
+        PARSE, HANDLE, SAVE, FORMAT
+    }
+
+    private static final int MAX_TRACKED_COMMANDS = 64;
+    private static final String OTHER_COMMANDS = "(other)";
+    private static final long NANOS_PER_MICRO = 1000;
+
+    private final boolean isEnabled;
+    private final Map<String, Map<Phase, LatencyHistogram>> histograms = new TreeMap<>();
+    private long tasksScanned;
+    private long bytesWritten;
+    private ScheduledExecutorService dumpExecutor;
+    private File dumpFile;
+
+    /**
+     * Creates a collector that is enabled unless {@code -Dvoyager.stats=false} is set.
+     */
+    public CommandStats() {
+        this(!"false".equalsIgnoreCase(System.getProperty("voyager.stats")));
+    }
+
+    /**
+     * Creates a collector.
+     *
+     * @param isEnabled Whether values should be recorded at all.
+     */
+    public CommandStats(boolean isEnabled) {
+        this.isEnabled = isEnabled;
+    }
+
+    /**
+     * Returns whether values are being recorded.
+     *
+     * @return True if recording is enabled.
+     */
+    public boolean isEnabled() {
+        return isEnabled;
+    }
+
+    /**
+     * Records the time spent in one phase of a command.
+     *
+     * @param command The command word.
+     * @param phase   The phase the time was spent in.
+     * @param nanos   Elapsed time in nanoseconds.
+     */
+    public synchronized void record(String command, Phase phase, long nanos) {
+        if (!isEnabled) {
+            return;
+        }
+        histogramsFor(command).computeIfAbsent(phase, p -> new LatencyHistogram()).record(nanos);
+    }
+
+    /**
+     * Adds to the number of tasks that commands had to look at.
+     *
+     * @param count Number of tasks scanned.
+     */
+    public synchronized void addTasksScanned(long count) {
+        if (isEnabled) {
+            tasksScanned += count;
+        }
+    }
+
+    /**
+     * Adds to the number of bytes written to disk.
+     *
+     * @param count Number of bytes written.
+     */
+    public synchronized void addBytesWritten(long count) {
+        if (isEnabled) {
+            bytesWritten += count;
+        }
+    }
+
+    /**
+     * Formats every histogram as a table of p50, p99 and max latencies in microseconds,
+     * followed by the workload counters.
+     *
+     * @return A multi-line report.
+     */
+    public synchronized String report() {
+        if (!isEnabled) {
+            return "Stats are disabled. Start Voyager without -Dvoyager.stats=false to enable them.";
+        }
+
+        StringBuilder sb = new StringBuilder("Command latency (microseconds):\n");
+        sb.append(String.format("%-10s %-7s %8s %10s %10s %10s%n", "command", "phase", "count", "p50", "p99", "max"));
+        for (Map.Entry<String, Map<Phase, LatencyHistogram>> entry : histograms.entrySet()) {
+            for (Map.Entry<Phase, LatencyHistogram> phaseEntry : entry.getValue().entrySet()) {
+                LatencyHistogram histogram = phaseEntry.getValue();
+                sb.append(String.format("%-10s %-7s %8d %10d %10d %10d%n",
+                        entry.getKey(),
+                        phaseEntry.getKey().name().toLowerCase(),
+                        histogram.getCount(),
+                        histogram.getValueAtPercentile(50) / NANOS_PER_MICRO,
+                        histogram.getValueAtPercentile(99) / NANOS_PER_MICRO,
+                        histogram.getMax() / NANOS_PER_MICRO));
+            }
+        }
+        sb.append("Tasks scanned: ").append(tasksScanned).append("\n");
+        sb.append("Bytes written: ").append(bytesWritten);
+        return sb.toString();
+    }
+
+    /**
+     * Starts writing the report to a file at a fixed interval on a background thread.
+     *
+     * @param file            The file to overwrite with each report.
+     * @param intervalSeconds Seconds between dumps.
+     */
+    public synchronized void startPeriodicDump(File file, long intervalSeconds) {
+        if (!isEnabled || dumpExecutor != null) {
+            return;
+        }
+        dumpFile = file;
+        dumpExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "voyager-stats-dump");
+            thread.setDaemon(true);
+            return thread;
+        });
+        dumpExecutor.scheduleAtFixedRate(this::dump, intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Writes the current report to the dump file, if periodic dumping was started.
+     */
+    public void dump() {
+        File file;
+        String report;
+        synchronized (this) {
+            if (dumpFile == null) {
+                return;
+            }
+            file = dumpFile;
+            report = report();
+        }
+        try (FileWriter writer = new FileWriter(file, StandardCharsets.UTF_8)) {
+            writer.write(report + System.lineSeparator());
+        } catch (IOException e) {
+            System.out.println("Error writing stats to " + file + ".");
+        }
+    }
+
+    private Map<Phase, LatencyHistogram> histogramsFor(String command) {
+        Map<Phase, LatencyHistogram> byPhase = histograms.get(command);
+        if (byPhase != null) {
+            return byPhase;
+        }
+        String key = histograms.size() < MAX_TRACKED_COMMANDS ? command : OTHER_COMMANDS;
+        return histograms.computeIfAbsent(key, k -> new EnumMap<>(Phase.class));
+    }
+}
@@ -0,0 +1,87 @@
+package voyager.metrics;
+
+/**
+ * A fixed-size, log-linear histogram of latencies in nanoseconds.
+ * Each power of two is split into eight sub-buckets, so recorded values are kept to within
+ * 12.5% while recording stays a couple of shifts and an array increment.
+ * Instances are not thread-safe; callers synchronize externally.
+ */
+public class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKET_COUNT = (64 - SUB_BUCKET_BITS + 1) << SUB_BUCKET_BITS;
+
+    private final long[] counts = new long[BUCKET_COUNT];
+    private long count;
+    private long max;
+
+    /**
+     * Records a single latency.
+     *
+     * @param nanos The latency in nanoseconds. Negative values are recorded as zero.
+     */
+    public void record(long nanos) {
+        long value = Math.max(0, nanos);
+        counts[bucketOf(value)]++;
+        count++;
+        max = Math.max(max, value);
+    }
+
+    /**
+     * Returns the number of recorded values.
+     *
+     * @return The value count.
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Returns the largest recorded value exactly.
+     *
+     * @return The maximum in nanoseconds, or 0 if nothing was recorded.
+     */
+    public long getMax() {
+        return max;
+    }
+
+    /**
+     * Returns an upper bound for the value at the given percentile.
+     *
+     * @param percentile Percentile between 0 and 100.
+     * @return The upper edge of the bucket holding that percentile, capped at the maximum.
+     */
+    public long getValueAtPercentile(double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(count * percentile / 100.0));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(upperBoundOf(i), max);
+            }
+        }
+        return max;
+    }
+
+    private static int bucketOf(long value) {
+        int magnitude = 63 - Long.numberOfLeadingZeros(value);
+        if (magnitude < SUB_BUCKET_BITS) {
+            return (int) value;
+        }
+        int shift = magnitude - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >>> shift) & (SUB_BUCKET_COUNT - 1);
+        return ((shift + 1) << SUB_BUCKET_BITS) + subBucket;
+    }
+
+    private static long upperBoundOf(int bucket) {
+        if (bucket < SUB_BUCKET_COUNT) {
+            return bucket;
+        }
+        int shift = (bucket >>> SUB_BUCKET_BITS) - 1;
+        long lowerBound = (long) (SUB_BUCKET_COUNT + (bucket & (SUB_BUCKET_COUNT - 1))) << shift;
+        return lowerBound + (1L << shift) - 1;
+    }
+}
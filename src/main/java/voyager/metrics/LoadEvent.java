@@ -0,0 +1,30 @@
+package voyager.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event covering a read of the task list from the data file.
+ */
+@Name("voyager.Load")
+@Label("Voyager Load")
+@Category("Voyager")
+@Description("Read of the task list from the data file")
+public class LoadEvent extends jdk.jfr.Event {
+    @Label("File")
+    public String file;
+
+    @Label("Task Count")
+    public int taskCount;
+
+    @Label("Bytes Read")
+    @DataAmount
+    public long bytesRead;
+
+    @Label("Allocated")
+    @DataAmount
+    public long allocatedBytes;
+}
@@ -0,0 +1,30 @@
+package voyager.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event covering a write of the whole task list to the data file.
+ */
+@Name("voyager.Save")
+@Label("Voyager Save")
+@Category("Voyager")
+@Description("Write of the task list to the data file")
+public class SaveEvent extends jdk.jfr.Event {
+    @Label("File")
+    public String file;
+
+    @Label("Task Count")
+    public int taskCount;
+
+    @Label("Bytes Written")
+    @DataAmount
+    public long bytesWritten;
+
+    @Label("Allocated")
+    @DataAmount
+    public long allocatedBytes;
+}
@@ -0,0 +1,29 @@
+package voyager.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event covering a keyword search over the task list.
+ */
+@Name("voyager.Search")
+@Label("Voyager Search")
+@Category("Voyager")
+@Description("Keyword search over the task list")
+public class SearchEvent extends jdk.jfr.Event {
+    @Label("Keyword")
+    public String keyword;
+
+    @Label("Tasks Scanned")
+    public int tasksScanned;
+
+    @Label("Matches")
+    public int matches;
+
+    @Label("Allocated")
+    @DataAmount
+    public long allocatedBytes;
+}
@@ -0,0 +1,27 @@
+package voyager.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event covering an in-memory sort of the task list.
+ */
+@Name("voyager.Sort")
+@Label("Voyager Sort")
+@Category("Voyager")
+@Description("Sort of the task list")
+public class SortEvent extends jdk.jfr.Event {
+    @Label("Order")
+    @Description("What the list was sorted by")
+    public String order;
+
+    @Label("Task Count")
+    public int taskCount;
+
+    @Label("Allocated")
+    @DataAmount
+    public long allocatedBytes;
+}
@@ -0,0 +1,172 @@
+package voyager.reminder;
+
+import voyager.task.Deadline;
+import voyager.task.Task;
+import voyager.task.TaskListListener;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+/**
+ * Sends a reminder when an undone deadline is approaching.
+ * Listens to the task list and keeps one timeout per undone deadline in a {@link TimingWheel},
+ * scheduling it on add or unmark and cancelling it on mark or delete, so nothing ever polls the
+ * whole list. Time comes from an injectable {@link Clock}; {@link #tick()} can be called directly
+ * in tests instead of starting the background thread.
+ */
+public class ReminderScheduler implements TaskListListener {
+    /**
+     * Receives reminders as they fall due.
+     */
+    public interface ReminderListener {
+        /**
+         * Called once per deadline when its reminder time is reached.
+         *
+         * @param deadline The deadline that is approaching.
+         */
+        void onReminder(Deadline deadline);
+    }
+
+    private static final Logger LOGGER = Logger.getLogger(ReminderScheduler.class.getName());
+
+    private final Clock clock;
+    private final Duration leadTime;
+    private final long tickMillis;
+    private final ReminderListener listener;
+    private final TimingWheel<Deadline> wheel;
+    private final Map<Task, TimingWheel.Timeout<Deadline>> timeouts = new IdentityHashMap<>();
+    private ScheduledExecutorService executor;
+
+    /**
+     * Creates a scheduler.
+     *
+     * @param clock    Source of the current time.
+     * @param leadTime How long before the start of the due date a reminder fires.
+     * @param tick     Granularity of reminders and interval of the background thread.
+     * @param listener Receives the reminders.
+     */
+    public ReminderScheduler(Clock clock, Duration leadTime, Duration tick, ReminderListener listener) {
+        this.clock = clock;
+        this.leadTime = leadTime;
+        this.tickMillis = tick.toMillis();
+        this.listener = listener;
+        this.wheel = new TimingWheel<>(tickMillis, clock.millis());
+    }
+
+    /**
+     * Returns a listener that writes reminders to the log, for running without a GUI.
+     *
+     * @return A logging reminder listener.
+     */
+    public static ReminderListener logging() {
+        return deadline -> LOGGER.info("Reminder: " + deadline + " is due soon.");
+    }
+
+    /**
+     * Starts a daemon thread that calls {@link #tick()} once per tick.
+     */
+    public synchronized void start() {
+        if (executor != null) {
+            return;
+        }
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "voyager-reminders");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleAtFixedRate(this::tick, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops the background thread, if started.
+     */
+    public synchronized void stop() {
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+
+    /**
+     * Advances to the clock's current time and notifies the listener of every reminder that fell due.
+     */
+    public void tick() {
+        List<Deadline> due;
+        synchronized (this) {
+            due = wheel.advanceTo(clock.millis());
+            for (Deadline deadline : due) {
+                timeouts.remove(deadline);
+            }
+        }
+        for (Deadline deadline : due) {
+            listener.onReminder(deadline);
+        }
+    }
+
+    /**
+     * Returns the number of reminders waiting to fire.
+     *
+     * @return Pending reminder count.
+     */
+    public synchronized int getPendingCount() {
+        return wheel.size();
+    }
+
+    @Override
+    public synchronized void onAdded(int fromIndex, List<Task> added) {
+        for (Task task : added) {
+            register(task);
+        }
+    }
+
+    @Override
+    public synchronized void onRemoved(int index, Task removed) {
+        cancel(removed);
+    }
+
+    @Override
+    public synchronized void onUpdating(int index, Task task) {
+        // The task may be replaced by a different object, as a follower does, so the outgoing one is
+        // always cancelled and the updated one registered again if it is still undone.
+        cancel(task);
+    }
+
+    @Override
+    public synchronized void onUpdated(int index, Task updated) {
+        register(updated);
+    }
+
+    @Override
+    public void onReordered(int[] permutation) {
+        // Reminders are keyed by task, not position, so reordering changes nothing.
+    }
+
+    private void register(Task task) {
+        if (!(task instanceof Deadline) || task.isDone()) {
+            return;
+        }
+        Deadline deadline = (Deadline) task;
+        LocalDate by = deadline.getBy();
+        if (by.isBefore(LocalDate.now(clock))) {
+            return;
+        }
+        long remindAt = by.atStartOfDay(clock.getZone()).toInstant().minus(leadTime).toEpochMilli();
+        timeouts.put(task, wheel.schedule(deadline, remindAt));
+    }
+
+    private void cancel(Task task) {
+        TimingWheel.Timeout<Deadline> timeout = timeouts.remove(task);
+        if (timeout != null) {
+            wheel.cancel(timeout);
+        }
+    }
+}
@@ -0,0 +1,236 @@
+package voyager.reminder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A hierarchical timing wheel that holds timeouts at tick granularity.
+ * Level 0 has one slot per tick; every higher level has slots that span a whole revolution of
+ * the level below. A timeout is filed in the lowest level whose range covers its delay and is
+ * cascaded down as time approaches, so scheduling and cancelling are O(1) and advancing costs
+ * O(1) per tick plus the work for timeouts that actually move or expire.
+ * Instances are not thread-safe; callers synchronize externally.
+ *
+ * @param <T> Type of the payload carried by each timeout.
+ */
+public class TimingWheel<T> {
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS_PER_LEVEL = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS_PER_LEVEL - 1;
+    private static final int LEVELS = 4;
+    private static final long MAX_DELAY_TICKS = (1L << (SLOT_BITS * LEVELS)) - 1;
+
+    private final long tickMillis;
+    private final long originMillis;
+    private final Slot<T>[][] levels;
+    private final Slot<T> dueNow = new Slot<>();
+    private long currentTick;
+    private int size;
+
+    /**
+     * A scheduled timeout. Keep the handle to cancel it later.
+     *
+     * @param <T> Type of the payload.
+     */
+    public static class Timeout<T> {
+        private final T payload;
+        private final long deadlineTick;
+        private Slot<T> slot;
+        private Timeout<T> prev;
+        private Timeout<T> next;
+
+        private Timeout(T payload, long deadlineTick) {
+            this.payload = payload;
+            this.deadlineTick = deadlineTick;
+        }
+
+        /**
+         * Returns the payload carried by this timeout.
+         *
+         * @return The payload.
+         */
+        public T getPayload() {
+            return payload;
+        }
+
+        /**
+         * Returns whether the timeout is still waiting to expire.
+         *
+         * @return True if neither expired nor cancelled.
+         */
+        public boolean isPending() {
+            return slot != null;
+        }
+    }
+
+    /**
+     * An intrusive doubly-linked list of timeouts sharing a slot.
+     */
+    private static class Slot<T> {
+        private Timeout<T> head;
+
+        private void add(Timeout<T> timeout) {
+            timeout.slot = this;
+            timeout.prev = null;
+            timeout.next = head;
+            if (head != null) {
+                head.prev = timeout;
+            }
+            head = timeout;
+        }
+
+        private void unlink(Timeout<T> timeout) {
+            if (timeout.prev != null) {
+                timeout.prev.next = timeout.next;
+            } else {
+                head = timeout.next;
+            }
+            if (timeout.next != null) {
+                timeout.next.prev = timeout.prev;
+            }
+            timeout.slot = null;
+            timeout.prev = null;
+            timeout.next = null;
+        }
+
+        private Timeout<T> drain() {
+            Timeout<T> drained = head;
+            head = null;
+            return drained;
+        }
+    }
+
+    /**
+     * Creates an empty wheel.
+     *
+     * @param tickMillis Granularity of the wheel in milliseconds.
+     * @param nowMillis  Current time in epoch milliseconds.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public TimingWheel(long tickMillis, long nowMillis) {
+        assert tickMillis > 0 : "Tick length should be positive";
+        this.tickMillis = tickMillis;
+        this.originMillis = nowMillis;
+        this.levels = new Slot[LEVELS][SLOTS_PER_LEVEL];
+        for (Slot<T>[] level : levels) {
+            for (int i = 0; i < SLOTS_PER_LEVEL; i++) {
+                level[i] = new Slot<>();
+            }
+        }
+    }
+
+    /**
+     * Schedules a payload to expire at the first tick at or after the given time.
+     * Times already in the past expire on the next call to {@link #advanceTo}.
+     *
+     * @param payload        The payload to return on expiry.
+     * @param deadlineMillis Expiry time in epoch milliseconds.
+     * @return A handle for cancelling the timeout.
+     */
+    public Timeout<T> schedule(T payload, long deadlineMillis) {
+        long offset = deadlineMillis - originMillis;
+        long deadlineTick = offset <= 0 ? 0 : (offset + tickMillis - 1) / tickMillis;
+        Timeout<T> timeout = new Timeout<>(payload, deadlineTick);
+        place(timeout);
+        size++;
+        return timeout;
+    }
+
+    /**
+     * Cancels a pending timeout. Does nothing if it already expired or was cancelled.
+     *
+     * @param timeout The handle returned by {@link #schedule}.
+     */
+    public void cancel(Timeout<T> timeout) {
+        if (timeout.slot == null) {
+            return;
+        }
+        timeout.slot.unlink(timeout);
+        size--;
+    }
+
+    /**
+     * Returns the number of pending timeouts.
+     *
+     * @return Pending timeout count.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Advances the wheel to the given time and returns every payload that expired on the way.
+     *
+     * @param nowMillis Current time in epoch milliseconds.
+     * @return Expired payloads, earliest tick first.
+     */
+    public List<T> advanceTo(long nowMillis) {
+        List<T> expired = new ArrayList<>();
+        collect(dueNow, expired);
+
+        long targetTick = Math.max(0, (nowMillis - originMillis) / tickMillis);
+        while (currentTick < targetTick) {
+            currentTick++;
+            cascade();
+            collect(levels[0][(int) (currentTick & SLOT_MASK)], expired);
+            collect(dueNow, expired);
+        }
+        return expired;
+    }
+
+    /**
+     * Files a timeout in the lowest level whose range covers its remaining delay.
+     */
+    private void place(Timeout<T> timeout) {
+        long delay = timeout.deadlineTick - currentTick;
+        if (delay <= 0) {
+            dueNow.add(timeout);
+            return;
+        }
+
+        long tick = timeout.deadlineTick;
+        if (delay > MAX_DELAY_TICKS) {
+            // Parked at the far edge of the top level; cascading re-files it with its real deadline.
+            tick = currentTick + MAX_DELAY_TICKS;
+            delay = MAX_DELAY_TICKS;
+        }
+        int level = 0;
+        while (level < LEVELS - 1 && delay >= 1L << (SLOT_BITS * (level + 1))) {
+            level++;
+        }
+        int index = (int) ((tick >>> (SLOT_BITS * level)) & SLOT_MASK);
+        levels[level][index].add(timeout);
+    }
+
+    /**
+     * Moves the timeouts of each higher-level slot that the current tick has just entered
+     * down to finer levels. A level is only entered when every level below it wraps around.
+     */
+    private void cascade() {
+        for (int level = 1; level < LEVELS; level++) {
+            int shift = SLOT_BITS * level;
+            if ((currentTick & ((1L << shift) - 1)) != 0) {
+                return;
+            }
+            Slot<T> slot = levels[level][(int) ((currentTick >>> shift) & SLOT_MASK)];
+            for (Timeout<T> timeout = slot.drain(); timeout != null; ) {
+                Timeout<T> next = timeout.next;
+                timeout.slot = null;
+                place(timeout);
+                timeout = next;
+            }
+        }
+    }
+
+    private void collect(Slot<T> slot, List<T> expired) {
+        for (Timeout<T> timeout = slot.drain(); timeout != null; ) {
+            Timeout<T> next = timeout.next;
+            timeout.slot = null;
+            timeout.prev = null;
+            timeout.next = null;
+            expired.add(timeout.payload);
+            size--;
+            timeout = next;
+        }
+    }
+}
@@ -0,0 +1,283 @@
+package voyager.replication;
+
+import voyager.exception.VoyagerException;
+import voyager.task.Storage;
+import voyager.task.Task;
+import voyager.task.TaskList;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A read-only replica of a primary's task list, kept current by applying its replication log.
+ *
+ * <p>The follower persists its own copy of the tasks together with a checkpoint: the sequence number
+ * of the last entry applied. After a restart or disconnect it asks the primary for the entries after
+ * that checkpoint. The checkpoint is deleted before the copy is rewritten and recreated afterwards,
+ * so a crash in between costs a full resync rather than a copy that disagrees with its checkpoint.
+ */
+public class Follower {
+    private static final long RECONNECT_DELAY_MILLIS = 1000;
+    private static final int PERSIST_INTERVAL_ENTRIES = 10_000;
+    private static final long PERSIST_INTERVAL_NANOS = 5_000_000_000L;
+
+    private final String host;
+    private final int port;
+    private final Storage storage;
+    private final Path checkpointFile;
+    private final TaskList taskList = new TaskList();
+
+    private long appliedSeq;
+    private volatile long primarySeq;
+    private volatile boolean isConnected;
+    private volatile boolean isRunning;
+    private volatile Socket socket;
+    private long appliedCount;
+    private long unpersistedCount;
+    private long persistedSeq;
+    private long lastPersistNanos = System.nanoTime();
+    private final long startNanos = System.nanoTime();
+
+    /**
+     * Creates a follower, restoring its tasks and checkpoint from disk if both exist.
+     *
+     * @param host    Host of the primary.
+     * @param port    Replication port of the primary.
+     * @param storage Where the follower keeps its copy of the tasks.
+     */
+    public Follower(String host, int port, Storage storage) {
+        this.host = host;
+        this.port = port;
+        this.storage = storage;
+        this.checkpointFile = Path.of(storage.getDataFile().getPath() + ".checkpoint");
+        restore();
+    }
+
+    private void restore() {
+        try {
+            if (!Files.exists(checkpointFile)) {
+                return;
+            }
+            long checkpoint = Long.parseLong(Files.readString(checkpointFile).trim());
+            List<Task> tasks = new ArrayList<>();
+            storage.loadTasks(tasks);
+            taskList.addAll(tasks);
+            appliedSeq = checkpoint;
+            persistedSeq = checkpoint;
+            primarySeq = checkpoint;
+        } catch (IOException | NumberFormatException e) {
+            System.out.println("Error reading replication checkpoint, resyncing from the primary.");
+        }
+    }
+
+    /**
+     * Returns the replicated task list. Callers must synchronize on this follower while reading it.
+     *
+     * @return The task list.
+     */
+    public TaskList getTaskList() {
+        return taskList;
+    }
+
+    /**
+     * Returns the sequence number of the last entry applied.
+     *
+     * @return The applied sequence number.
+     */
+    public synchronized long getAppliedSeq() {
+        return appliedSeq;
+    }
+
+    /**
+     * Connects to the primary on a daemon thread, reconnecting after every disconnect until stopped.
+     */
+    public void start() {
+        isRunning = true;
+        Thread thread = new Thread(this::followPrimary, "voyager-follower");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Disconnects from the primary and stops reconnecting.
+     */
+    public void stop() {
+        isRunning = false;
+        Socket current = socket;
+        if (current != null) {
+            try {
+                current.close();
+            } catch (IOException e) {
+                // Already closed.
+            }
+        }
+    }
+
+    private void followPrimary() {
+        while (isRunning) {
+            try (Socket connection = new Socket(host, port)) {
+                socket = connection;
+                isConnected = true;
+                runSession(connection);
+            } catch (IOException e) {
+                // Retried below; the checkpoint tells the primary where to resume.
+            } finally {
+                isConnected = false;
+            }
+            try {
+                persist();
+                Thread.sleep(RECONNECT_DELAY_MILLIS);
+            } catch (IOException e) {
+                System.out.println("Error saving replicated tasks.");
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+
+    private void runSession(Socket connection) throws IOException {
+        BufferedReader in = new BufferedReader(
+                new InputStreamReader(connection.getInputStream(), StandardCharsets.UTF_8));
+        BufferedWriter out = new BufferedWriter(
+                new OutputStreamWriter(connection.getOutputStream(), StandardCharsets.UTF_8));
+        out.write(ReplicationServer.FROM + " " + (getAppliedSeq() + 1));
+        out.newLine();
+        out.flush();
+
+        String line;
+        while ((line = in.readLine()) != null) {
+            if (line.startsWith(ReplicationServer.HEARTBEAT + " ")) {
+                primarySeq = Long.parseLong(line.substring(ReplicationServer.HEARTBEAT.length() + 1).trim());
+            } else {
+                apply(Mutation.parse(line));
+                if (unpersistedCount < PERSIST_INTERVAL_ENTRIES && in.ready()) {
+                    continue;
+                }
+            }
+            persistIfDue();
+            out.write(ReplicationServer.ACK + " " + getAppliedSeq());
+            out.newLine();
+            out.flush();
+        }
+    }
+
+    /**
+     * Applies one log entry to the replicated list.
+     * An entry that does not fit the list means the replica has diverged, so the checkpoint is
+     * dropped and the next connection replays the primary's whole session.
+     *
+     * @param mutation The entry.
+     * @throws IOException If the entry cannot be applied.
+     */
+    synchronized void apply(Mutation mutation) throws IOException {
+        if (mutation.getSeq() <= appliedSeq && mutation.getType() != Mutation.Type.RESET) {
+            return;
+        }
+        try {
+            switch (mutation.getType()) {
+                case RESET:
+                    taskList.removeIf(task -> true);
+                    primarySeq = mutation.getSeq();
+                    break;
+                case ADD:
+                    if (mutation.getIndex() > taskList.size()) {
+                        throw new VoyagerException("insert past the end of the list");
+                    }
+                    taskList.insert(mutation.getIndex(), decode(mutation));
+                    break;
+                case REMOVE:
+                    taskList.remove(mutation.getIndex());
+                    break;
+                case UPDATE:
+                    taskList.set(mutation.getIndex(), decode(mutation));
+                    break;
+                case REORDER:
+                    int[] permutation = Mutation.decodePermutation(mutation.getPayload());
+                    if (permutation.length != taskList.size()) {
+                        throw new VoyagerException("permutation does not cover the list");
+                    }
+                    taskList.reorder(permutation);
+                    break;
+                default:
+                    break;
+            }
+        } catch (VoyagerException | RuntimeException e) {
+            appliedSeq = 0;
+            persistedSeq = 0;
+            Files.deleteIfExists(checkpointFile);
+            throw new IOException("Replica diverged at entry " + mutation.getSeq() + ": " + e.getMessage());
+        }
+        appliedSeq = mutation.getSeq();
+        primarySeq = Math.max(primarySeq, appliedSeq);
+        appliedCount++;
+        unpersistedCount++;
+    }
+
+    private static Task decode(Mutation mutation) throws VoyagerException {
+        Task task = Storage.decodeTask(mutation.getPayload());
+        if (task == null) {
+            throw new VoyagerException("unknown task type");
+        }
+        return task;
+    }
+
+    /**
+     * Saves the replicated tasks once enough entries or time have accumulated since the last save.
+     * Rewriting the copy costs the size of the whole list, so it is not done for every batch; the
+     * primary's log still holds anything applied since, and resuming from the checkpoint replays it.
+     *
+     * @throws IOException If writing either file fails.
+     */
+    private synchronized void persistIfDue() throws IOException {
+        if (unpersistedCount >= PERSIST_INTERVAL_ENTRIES
+                || System.nanoTime() - lastPersistNanos >= PERSIST_INTERVAL_NANOS) {
+            persist();
+        }
+    }
+
+    /**
+     * Saves the replicated tasks and then the checkpoint, if the applied sequence number has advanced
+     * since the last save.
+     *
+     * @throws IOException If writing either file fails.
+     */
+    synchronized void persist() throws IOException {
+        lastPersistNanos = System.nanoTime();
+        if (appliedSeq == persistedSeq) {
+            return;
+        }
+        Files.deleteIfExists(checkpointFile);
+        storage.save(taskList.getAll());
+        Path temp = Path.of(checkpointFile + ".tmp");
+        Files.writeString(temp, Long.toString(appliedSeq));
+        Files.move(temp, checkpointFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        persistedSeq = appliedSeq;
+        unpersistedCount = 0;
+    }
+
+    /**
+     * Returns the follower's connection state, position and apply rate.
+     *
+     * @return The replication status report.
+     */
+    public synchronized String report() {
+        double seconds = Math.max((System.nanoTime() - startNanos) / 1e9, 1e-3);
+        return String.format("Replication follower of %s:%d (%s)%n"
+                        + "Applied up to entry %d, primary at %d, lag %d entries%n"
+                        + "Applied %d entries (%.1f/s), %d tasks",
+                host, port, isConnected ? "connected" : "disconnected",
+                appliedSeq, primarySeq, Math.max(primarySeq - appliedSeq, 0),
+                appliedCount, appliedCount / seconds, taskList.size());
+    }
+}
@@ -0,0 +1,105 @@
+package voyager.replication;
+
+import voyager.reminder.ReminderScheduler;
+import voyager.task.Storage;
+import voyager.task.Task;
+import voyager.task.TaskList;
+import voyager.ui.Parser;
+import voyager.ui.Ui;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Command-line entry point for a read-only follower.
+ * <pre>
+ * PORT [DATA_FILE] [--host HOST]
+ * </pre>
+ * The follower replicates the primary started with {@code -Dvoyager.replication.port=PORT} and
+ * answers {@code list}, {@code find} and {@code replstatus} from its own copy of the tasks.
+ * Reminders for approaching deadlines are written to the log.
+ */
+public class FollowerMain {
+    private static final String USAGE = "Usage: PORT [DATA_FILE] [--host HOST]";
+    private static final String DEFAULT_DATA_FILE = "data/follower.txt";
+    private static final Duration REMINDER_LEAD_TIME =
+            Duration.ofHours(Long.getLong("voyager.reminder.leadHours", 24));
+    private static final Duration REMINDER_TICK = Duration.ofMinutes(1);
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.out.println(USAGE);
+            return;
+        }
+
+        int port = Integer.parseInt(args[0]);
+        String dataFile = args.length > 1 && !args[1].startsWith("--") ? args[1] : DEFAULT_DATA_FILE;
+        String host = "localhost";
+        for (int i = 1; i + 1 < args.length; i++) {
+            if (args[i].equals("--host")) {
+                host = args[i + 1];
+            }
+        }
+
+        Follower follower = new Follower(host, port, new Storage(dataFile));
+        startReminders(follower);
+        follower.start();
+        System.out.println("Following " + host + ":" + port + " into " + dataFile
+                + ". Commands: list, find <keyword>, replstatus, bye");
+
+        Ui ui = new Ui();
+        BufferedReader console = new BufferedReader(new InputStreamReader(System.in));
+        String input;
+        while ((input = console.readLine()) != null) {
+            String command = Parser.getCommandWord(input.trim());
+            if (command.equals("bye")) {
+                break;
+            }
+            System.out.println(respond(follower, ui, command, Parser.getArguments(input.trim())));
+        }
+        follower.stop();
+        follower.persist();
+    }
+
+    /**
+     * Logs a reminder as each undone deadline in the follower's copy approaches, since a follower
+     * has no chat to show it in. Tasks restored from disk are registered before replication starts.
+     *
+     * @param follower The follower whose tasks are watched.
+     */
+    private static void startReminders(Follower follower) {
+        ReminderScheduler reminders = new ReminderScheduler(Clock.systemDefaultZone(),
+                REMINDER_LEAD_TIME, REMINDER_TICK, ReminderScheduler.logging());
+        TaskList taskList = follower.getTaskList();
+        reminders.onAdded(0, taskList.getAll());
+        taskList.addListener(reminders);
+        reminders.start();
+    }
+
+    private static String respond(Follower follower, Ui ui, String command, String args) {
+        synchronized (follower) {
+            List<Task> tasks = follower.getTaskList().getAll();
+            switch (command) {
+                case "list":
+                    return ui.showList(new ArrayList<>(tasks));
+                case "find":
+                    List<Task> matches = new ArrayList<>();
+                    for (Task task : tasks) {
+                        if (task.getDescription().toLowerCase().contains(args.toLowerCase())) {
+                            matches.add(task);
+                        }
+                    }
+                    return ui.showFoundTasks(matches);
+                case "replstatus":
+                    return follower.report();
+                default:
+                    return "OOPS!!! This is a read-only follower. Please make changes on the primary.";
+            }
+        }
+    }
+}
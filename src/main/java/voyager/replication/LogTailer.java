@@ -0,0 +1,58 @@
+package voyager.replication;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Reads complete lines from a file that is still being appended to.
+ * Unlike a {@link java.io.BufferedReader}, a line is only returned once its terminator has been
+ * written, so a half-written entry at the end of the file is never mistaken for a whole one.
+ */
+class LogTailer implements Closeable {
+    private static final int CHUNK_SIZE = 64 * 1024;
+
+    private final FileInputStream in;
+    private final byte[] chunk = new byte[CHUNK_SIZE];
+    private int chunkPos;
+    private int chunkEnd;
+    private final ByteArrayOutputStream partial = new ByteArrayOutputStream();
+
+    LogTailer(File file) throws IOException {
+        this.in = new FileInputStream(file);
+    }
+
+    /**
+     * Returns the next complete line, or null if none has been written yet.
+     *
+     * @return The line without its terminator, or null.
+     * @throws IOException If reading the file fails.
+     */
+    String nextLine() throws IOException {
+        while (true) {
+            for (int i = chunkPos; i < chunkEnd; i++) {
+                if (chunk[i] == '\n') {
+                    partial.write(chunk, chunkPos, i - chunkPos);
+                    chunkPos = i + 1;
+                    String line = partial.toString(StandardCharsets.UTF_8);
+                    partial.reset();
+                    return line.endsWith("\r") ? line.substring(0, line.length() - 1) : line;
+                }
+            }
+            partial.write(chunk, chunkPos, chunkEnd - chunkPos);
+            chunkPos = 0;
+            chunkEnd = Math.max(in.read(chunk), 0);
+            if (chunkEnd == 0) {
+                return null;
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+}
@@ -0,0 +1,161 @@
+package voyager.replication;
+
+import java.io.IOException;
+
+/**
+ * One entry of the replication log: a single change to the task list, tagged with its sequence number.
+ * Entries are written one per line as {@code seq TAB type TAB index TAB payload}.
+ */
+public class Mutation {
+    /**
+     * The kinds of change a follower replays.
+     */
+    public enum Type {
+        /** Clears the follower's list. Always followed by an ADD for every task of the primary. */
+        RESET,
+        /** Inserts the task in the payload at the index. */
+        ADD,
+        /** Removes the task at the index. */
+        REMOVE,
+        /** Replaces the task at the index with the task in the payload, e.g. after a mark or unmark. */
+        UPDATE,
+        /** Reorders the whole list; the payload is the comma-separated permutation. */
+        REORDER
+    }
+
+    private final long seq;
+    private final Type type;
+    private final int index;
+    private final String payload;
+
+    /**
+     * Creates a log entry.
+     *
+     * @param seq     Sequence number, increasing by one per entry.
+     * @param type    Kind of change.
+     * @param index   Index the change applies to, or 0 if it has none.
+     * @param payload Encoded task or permutation, or an empty string.
+     */
+    public Mutation(long seq, Type type, int index, String payload) {
+        this.seq = seq;
+        this.type = type;
+        this.index = index;
+        this.payload = payload;
+    }
+
+    /**
+     * Returns the sequence number of the entry.
+     *
+     * @return The sequence number.
+     */
+    public long getSeq() {
+        return seq;
+    }
+
+    /**
+     * Returns the kind of change.
+     *
+     * @return The mutation type.
+     */
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * Returns the index the change applies to.
+     *
+     * @return The index (0-based).
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * Returns the encoded task or permutation.
+     *
+     * @return The payload, possibly empty.
+     */
+    public String getPayload() {
+        return payload;
+    }
+
+    /**
+     * Encodes the entry as a single log line without a line terminator.
+     *
+     * @return The log line.
+     */
+    public String toLine() {
+        return seq + "\t" + type + "\t" + index + "\t" + payload;
+    }
+
+    /**
+     * Decodes a log line written by {@link #toLine()}.
+     *
+     * @param line The log line.
+     * @return The entry.
+     * @throws IOException If the line is malformed.
+     */
+    public static Mutation parse(String line) throws IOException {
+        String[] parts = line.split("\t", 4);
+        if (parts.length < 4) {
+            throw new IOException("Malformed replication entry: " + line);
+        }
+        try {
+            return new Mutation(Long.parseLong(parts[0]), Type.valueOf(parts[1]),
+                    Integer.parseInt(parts[2]), parts[3]);
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Malformed replication entry: " + line);
+        }
+    }
+
+    /**
+     * Reads just the sequence number of a log line, without decoding the rest.
+     *
+     * @param line The log line.
+     * @return The sequence number.
+     * @throws IOException If the line does not start with a sequence number.
+     */
+    public static long parseSeq(String line) throws IOException {
+        int tab = line.indexOf('\t');
+        try {
+            return Long.parseLong(tab < 0 ? line : line.substring(0, tab));
+        } catch (NumberFormatException e) {
+            throw new IOException("Malformed replication entry: " + line);
+        }
+    }
+
+    /**
+     * Encodes a permutation for a REORDER payload.
+     *
+     * @param permutation The permutation.
+     * @return The comma-separated indices.
+     */
+    static String encodePermutation(int[] permutation) {
+        StringBuilder sb = new StringBuilder(permutation.length * 6);
+        for (int i = 0; i < permutation.length; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append(permutation[i]);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Decodes a REORDER payload.
+     *
+     * @param payload The comma-separated indices.
+     * @return The permutation.
+     */
+    static int[] decodePermutation(String payload) {
+        if (payload.isEmpty()) {
+            return new int[0];
+        }
+        String[] parts = payload.split(",");
+        int[] permutation = new int[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            permutation[i] = Integer.parseInt(parts[i]);
+        }
+        return permutation;
+    }
+}
@@ -0,0 +1,230 @@
+package voyager.replication;
+
+import voyager.task.Storage;
+import voyager.task.Task;
+import voyager.task.TaskListListener;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * The primary's append-only log of task list mutations, numbered with increasing sequence numbers.
+ * Registered as a {@link TaskListListener}, it turns every change into one log line, so shipping a
+ * change to followers costs the size of the change rather than the size of the data file.
+ *
+ * <p>Each session begins with a RESET entry followed by an ADD for every task, numbered after the
+ * last entry of the previous session. A follower that is too far behind, or ahead of a log that was
+ * lost, replays the session from that RESET instead of resuming.
+ *
+ * <p>A failed write must not abort the command that changed the list, since the list and the other
+ * listeners have already moved on. The log is marked broken instead: it stops recording, because a
+ * gap would make followers diverge, and {@link #report} says so until the next {@link #reset}.
+ */
+public class ReplicationLog implements TaskListListener {
+    private final File logFile;
+    private BufferedWriter writer;
+    private long firstSeq;
+    private long lastSeq;
+    private long flushedSeq;
+    private long appendedCount;
+    private IOException failure;
+    private final long startNanos = System.nanoTime();
+
+    /**
+     * Creates a log backed by the given file. Nothing is written until {@link #reset} is called.
+     *
+     * @param logFile The log file.
+     */
+    public ReplicationLog(File logFile) {
+        this.logFile = logFile;
+    }
+
+    /**
+     * Starts a new session in the log, replacing the previous one, from a snapshot of the current tasks.
+     * Must be called before the log is registered as a listener.
+     *
+     * @param tasks The current contents of the task list.
+     * @throws IOException If the log file cannot be read or written.
+     */
+    public synchronized void reset(List<Task> tasks) throws IOException {
+        long previousSeq = readLastSeq();
+        File folder = logFile.getAbsoluteFile().getParentFile();
+        if (!folder.exists()) {
+            folder.mkdirs();
+        }
+        if (writer != null) {
+            writer.close();
+        }
+
+        writer = new BufferedWriter(new FileWriter(logFile, StandardCharsets.UTF_8));
+        failure = null;
+        firstSeq = previousSeq + 1;
+        lastSeq = previousSeq;
+        write(Mutation.Type.RESET, 0, "");
+        for (int i = 0; i < tasks.size(); i++) {
+            write(Mutation.Type.ADD, i, Storage.encodeTask(tasks.get(i)));
+        }
+        flush();
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private long readLastSeq() throws IOException {
+        if (!logFile.exists()) {
+            return 0;
+        }
+        long last = 0;
+        try (BufferedReader reader = new BufferedReader(new FileReader(logFile, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.isEmpty()) {
+                    last = Mutation.parseSeq(line);
+                }
+            }
+        } catch (IOException e) {
+            // A torn or corrupt log only costs followers a full resync from the next RESET.
+        }
+        return last;
+    }
+
+    @Override
+    public synchronized void onAdded(int fromIndex, List<Task> added) {
+        for (int i = 0; i < added.size(); i++) {
+            write(Mutation.Type.ADD, fromIndex + i, Storage.encodeTask(added.get(i)));
+        }
+        flush();
+    }
+
+    @Override
+    public synchronized void onRemoved(int index, Task removed) {
+        write(Mutation.Type.REMOVE, index, "");
+        flush();
+    }
+
+    @Override
+    public synchronized void onUpdated(int index, Task updated) {
+        write(Mutation.Type.UPDATE, index, Storage.encodeTask(updated));
+        flush();
+    }
+
+    @Override
+    public synchronized void onReordered(int[] permutation) {
+        write(Mutation.Type.REORDER, 0, Mutation.encodePermutation(permutation));
+        flush();
+    }
+
+    private void write(Mutation.Type type, int index, String payload) {
+        assert writer != null : "ReplicationLog should be reset before it records mutations";
+        if (failure != null) {
+            return;
+        }
+        try {
+            writer.write(new Mutation(lastSeq + 1, type, index, payload).toLine());
+            writer.newLine();
+        } catch (IOException e) {
+            fail(e);
+            return;
+        }
+        lastSeq++;
+        appendedCount++;
+    }
+
+    /**
+     * Pushes buffered entries to the file and wakes the sessions waiting for them.
+     */
+    private void flush() {
+        if (failure != null) {
+            return;
+        }
+        try {
+            writer.flush();
+        } catch (IOException e) {
+            fail(e);
+            return;
+        }
+        flushedSeq = lastSeq;
+        notifyAll();
+    }
+
+    private void fail(IOException e) {
+        failure = e;
+        System.out.println("Error writing replication log; followers will no longer be updated.");
+    }
+
+    /**
+     * Returns whether a write has failed, so that followers are no longer being updated.
+     *
+     * @return True if the log is broken.
+     */
+    public synchronized boolean isBroken() {
+        return failure != null;
+    }
+
+    /**
+     * Blocks until an entry after the given sequence number has been written, or the timeout elapses.
+     *
+     * @param seq           The last sequence number the caller has seen.
+     * @param timeoutMillis Maximum time to wait.
+     * @return The last sequence number in the log.
+     * @throws InterruptedException If the calling thread is interrupted.
+     */
+    public synchronized long awaitAfter(long seq, long timeoutMillis) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        long remaining = timeoutMillis;
+        while (flushedSeq <= seq && remaining > 0) {
+            wait(remaining);
+            remaining = deadline - System.currentTimeMillis();
+        }
+        return flushedSeq;
+    }
+
+    /**
+     * Returns the file the log is written to.
+     *
+     * @return The log file.
+     */
+    public File getLogFile() {
+        return logFile;
+    }
+
+    /**
+     * Returns the sequence number of this session's RESET entry.
+     *
+     * @return The first sequence number in the log.
+     */
+    public synchronized long getFirstSeq() {
+        return firstSeq;
+    }
+
+    /**
+     * Returns the sequence number of the newest entry written to the file.
+     *
+     * @return The last sequence number in the log.
+     */
+    public synchronized long getLastSeq() {
+        return flushedSeq;
+    }
+
+    /**
+     * Returns a one-line summary of the log's size and write rate.
+     *
+     * @return The summary.
+     */
+    public synchronized String report() {
+        double seconds = Math.max((System.nanoTime() - startNanos) / 1e9, 1e-3);
+        String summary = String.format("Log: entries %d-%d, %d written (%.1f/s)",
+                firstSeq, flushedSeq, appendedCount, appendedCount / seconds);
+        if (failure != null) {
+            summary += "\nLog: BROKEN after entry " + flushedSeq + " (" + failure.getMessage()
+                    + "). Followers are no longer updated; restart Voyager to resync them.";
+        }
+        return summary;
+    }
+}
@@ -0,0 +1,215 @@
+package voyager.replication;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Ships the replication log to followers over localhost sockets.
+ *
+ * <p>A follower connects and sends {@code FROM seq}, the first entry it has not applied. Its session
+ * tails the log file from there and streams entries as they are written, so catching up after a
+ * disconnect and following live changes are the same loop. When idle, the session sends
+ * {@code HB lastSeq} heartbeats so the follower can measure its lag. The follower answers with
+ * {@code ACK seq} once entries are applied, which is how the primary measures each follower's lag.
+ */
+public class ReplicationServer implements Closeable {
+    static final String FROM = "FROM";
+    static final String ACK = "ACK";
+    static final String HEARTBEAT = "HB";
+    static final long HEARTBEAT_INTERVAL_MILLIS = 1000;
+
+    private final ReplicationLog log;
+    private final ServerSocket serverSocket;
+    private final List<Session> sessions = new CopyOnWriteArrayList<>();
+    private volatile boolean isRunning;
+
+    /**
+     * Creates a server listening on the loopback interface.
+     *
+     * @param log  The log to ship.
+     * @param port Port to listen on, or 0 for any free port.
+     * @throws IOException If the port cannot be bound.
+     */
+    public ReplicationServer(ReplicationLog log, int port) throws IOException {
+        this.log = log;
+        this.serverSocket = new ServerSocket(port, 0, InetAddress.getLoopbackAddress());
+    }
+
+    /**
+     * Returns the port the server is listening on.
+     *
+     * @return The port.
+     */
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    /**
+     * Starts accepting followers on a daemon thread.
+     */
+    public void start() {
+        isRunning = true;
+        Thread acceptor = new Thread(this::acceptFollowers, "voyager-replication");
+        acceptor.setDaemon(true);
+        acceptor.start();
+    }
+
+    private void acceptFollowers() {
+        while (isRunning) {
+            try {
+                Session session = new Session(serverSocket.accept());
+                sessions.add(session);
+                Thread thread = new Thread(session, "voyager-replication-" + session.address);
+                thread.setDaemon(true);
+                thread.start();
+            } catch (IOException e) {
+                if (isRunning) {
+                    System.out.println("Error accepting replication follower: " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * Stops accepting followers and disconnects the current ones.
+     */
+    @Override
+    public void close() throws IOException {
+        isRunning = false;
+        serverSocket.close();
+        for (Session session : sessions) {
+            session.socket.close();
+        }
+    }
+
+    /**
+     * Returns the log summary followed by one line per connected follower.
+     *
+     * @return The replication status report.
+     */
+    public String report() {
+        StringBuilder sb = new StringBuilder("Replication primary on port ").append(getPort());
+        sb.append('\n').append(log.report());
+        if (sessions.isEmpty()) {
+            return sb.append("\nNo followers connected.").toString();
+        }
+        long lastSeq = log.getLastSeq();
+        long now = System.currentTimeMillis();
+        for (Session session : sessions) {
+            double seconds = Math.max((now - session.connectedAt) / 1000.0, 1e-3);
+            sb.append(String.format("%nFollower %s: acked %d, lag %d entries, sent %d (%.1f/s), last ack %.1fs ago",
+                    session.address, session.ackedSeq, lastSeq - session.ackedSeq, session.sentCount,
+                    session.sentCount / seconds, (now - session.lastAckAt) / 1000.0));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Streams the log to one follower.
+     */
+    private class Session implements Runnable {
+        private final Socket socket;
+        private final String address;
+        private final long connectedAt = System.currentTimeMillis();
+        private volatile long ackedSeq;
+        private volatile long lastAckAt = connectedAt;
+        private volatile long sentCount;
+
+        Session(Socket socket) {
+            this.socket = socket;
+            this.address = socket.getInetAddress().getHostAddress() + ":" + socket.getPort();
+        }
+
+        @Override
+        public void run() {
+            try (socket;
+                 BufferedReader in = new BufferedReader(
+                         new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+                 BufferedWriter out = new BufferedWriter(
+                         new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8));
+                 LogTailer tailer = new LogTailer(log.getLogFile())) {
+                long wanted = readFrom(in.readLine());
+                ackedSeq = wanted - 1;
+                startAckReader(in);
+                stream(tailer, out, wanted);
+            } catch (IOException e) {
+                // The follower disconnected; it resumes from its checkpoint when it reconnects.
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                sessions.remove(this);
+            }
+        }
+
+        private long readFrom(String hello) throws IOException {
+            if (hello == null || !hello.startsWith(FROM + " ")) {
+                throw new IOException("Expected " + FROM);
+            }
+            long wanted = Long.parseLong(hello.substring(FROM.length() + 1).trim());
+            if (wanted < log.getFirstSeq() || wanted > log.getLastSeq() + 1) {
+                // Too old for this session's log, or ahead of it: replay from the session's RESET.
+                return log.getFirstSeq();
+            }
+            return wanted;
+        }
+
+        private void stream(LogTailer tailer, BufferedWriter out, long wanted)
+                throws IOException, InterruptedException {
+            long lastSent = wanted - 1;
+            while (isRunning) {
+                String line = tailer.nextLine();
+                if (line != null) {
+                    if (line.isEmpty() || Mutation.parseSeq(line) < wanted) {
+                        continue;
+                    }
+                    out.write(line);
+                    out.newLine();
+                    lastSent = Mutation.parseSeq(line);
+                    sentCount++;
+                    continue;
+                }
+
+                out.flush();
+                long lastSeq = log.awaitAfter(lastSent, HEARTBEAT_INTERVAL_MILLIS);
+                if (lastSeq <= lastSent) {
+                    out.write(HEARTBEAT + " " + lastSeq);
+                    out.newLine();
+                    out.flush();
+                }
+            }
+        }
+
+        private void startAckReader(BufferedReader in) {
+            Thread reader = new Thread(() -> {
+                try {
+                    String line;
+                    while ((line = in.readLine()) != null) {
+                        if (line.startsWith(ACK + " ")) {
+                            ackedSeq = Long.parseLong(line.substring(ACK.length() + 1).trim());
+                            lastAckAt = System.currentTimeMillis();
+                        }
+                    }
+                } catch (IOException | NumberFormatException e) {
+                    // Treated as a disconnect below.
+                }
+                try {
+                    socket.close();
+                } catch (IOException e) {
+                    // Already closed.
+                }
+            }, "voyager-replication-acks-" + address);
+            reader.setDaemon(true);
+            reader.start();
+        }
+    }
+}
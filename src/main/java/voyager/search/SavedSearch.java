@@ -0,0 +1,183 @@
+package voyager.search;
+
+import voyager.task.Task;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A standing {@code find} query together with the positions of the tasks it currently matches.
+ * The positions are kept sorted, so the results come out in list order, and they are updated by
+ * {@link SavedSearches} as the list changes instead of being recomputed on every recall.
+ */
+public class SavedSearch {
+    private final String name;
+    private final String keyword;
+    private final String lowerKeyword;
+    private int[] indices = new int[8];
+    private int size;
+
+    /**
+     * Creates a saved search with no results.
+     *
+     * @param name    The name the search is recalled by.
+     * @param keyword The keyword to look for in task descriptions.
+     */
+    public SavedSearch(String name, String keyword) {
+        this.name = name;
+        this.keyword = keyword;
+        this.lowerKeyword = keyword.toLowerCase();
+    }
+
+    /**
+     * Returns whether a task matches a keyword the same way the {@code find} command does.
+     *
+     * @param task         The task.
+     * @param lowerKeyword The keyword in lower case.
+     * @return True if the description contains the keyword, ignoring case.
+     */
+    public static boolean matches(Task task, String lowerKeyword) {
+        return task.getDescription().toLowerCase().contains(lowerKeyword);
+    }
+
+    /**
+     * Returns the name the search is recalled by.
+     *
+     * @return The name.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the keyword the search looks for.
+     *
+     * @return The keyword as it was saved.
+     */
+    public String getKeyword() {
+        return keyword;
+    }
+
+    /**
+     * Returns the number of tasks the search currently matches.
+     *
+     * @return The match count.
+     */
+    public int getMatchCount() {
+        return size;
+    }
+
+    /**
+     * Returns the matching tasks in list order, in time proportional to the number of matches.
+     *
+     * @param tasks The current task list.
+     * @return The matching tasks.
+     */
+    public List<Task> getResults(List<Task> tasks) {
+        List<Task> results = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            results.add(tasks.get(indices[i]));
+        }
+        return results;
+    }
+
+    boolean matches(Task task) {
+        return matches(task, lowerKeyword);
+    }
+
+    /**
+     * Accounts for tasks inserted at {@code fromIndex}: later matches move down by the number inserted,
+     * then the inserted tasks that match are added.
+     */
+    void onInserted(int fromIndex, List<Task> added) {
+        int insertAt = lowerBound(fromIndex);
+        for (int i = insertAt; i < size; i++) {
+            indices[i] += added.size();
+        }
+
+        int matching = 0;
+        for (Task task : added) {
+            if (matches(task)) {
+                matching++;
+            }
+        }
+        if (matching == 0) {
+            return;
+        }
+        ensureCapacity(size + matching);
+        System.arraycopy(indices, insertAt, indices, insertAt + matching, size - insertAt);
+        int next = insertAt;
+        for (int i = 0; i < added.size(); i++) {
+            if (matches(added.get(i))) {
+                indices[next++] = fromIndex + i;
+            }
+        }
+        size += matching;
+    }
+
+    /**
+     * Accounts for the task at {@code index} being removed.
+     */
+    void onRemoved(int index) {
+        int position = lowerBound(index);
+        int shiftFrom = position;
+        if (position < size && indices[position] == index) {
+            System.arraycopy(indices, position + 1, indices, position, size - position - 1);
+            size--;
+        }
+        for (int i = shiftFrom; i < size; i++) {
+            indices[i]--;
+        }
+    }
+
+    /**
+     * Re-evaluates the task at {@code index} after it changed in place.
+     */
+    void onUpdated(int index, Task task) {
+        int position = lowerBound(index);
+        boolean isPresent = position < size && indices[position] == index;
+        boolean isMatch = matches(task);
+        if (isMatch && !isPresent) {
+            ensureCapacity(size + 1);
+            System.arraycopy(indices, position, indices, position + 1, size - position);
+            indices[position] = index;
+            size++;
+        } else if (!isMatch && isPresent) {
+            System.arraycopy(indices, position + 1, indices, position, size - position - 1);
+            size--;
+        }
+    }
+
+    /**
+     * Moves every match to its new position after a reorder.
+     *
+     * @param newIndexOf For each old index, the index the task now occupies.
+     */
+    void onReordered(int[] newIndexOf) {
+        for (int i = 0; i < size; i++) {
+            indices[i] = newIndexOf[indices[i]];
+        }
+        Arrays.sort(indices, 0, size);
+    }
+
+    private int lowerBound(int index) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (indices[mid] < index) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > indices.length) {
+            indices = Arrays.copyOf(indices, Math.max(capacity, indices.length * 2));
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package voyager.search;
+
+import voyager.task.Task;
+import voyager.task.TaskList;
+import voyager.task.TaskListListener;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The saved searches of a task list, kept current as the list changes.
+ * Each change is applied to every saved search as a delta, so a search is only ever evaluated
+ * against the tasks that changed, plus one full scan when it is first saved.
+ * The search definitions, not their results, are persisted one per line as {@code name | keyword}.
+ */
+public class SavedSearches implements TaskListListener {
+    private static final String SEPARATOR = " | ";
+
+    private final TaskList taskList;
+    private final File searchesFile;
+    private final Map<String, SavedSearch> searches = new LinkedHashMap<>();
+
+    /**
+     * Creates the saved searches of a task list, reading their definitions from disk, and registers
+     * them as a listener so that tasks installed later are matched as they arrive.
+     *
+     * @param taskList     The list to search.
+     * @param searchesFile The file the definitions are kept in.
+     */
+    public SavedSearches(TaskList taskList, File searchesFile) {
+        this.taskList = taskList;
+        this.searchesFile = searchesFile;
+        load();
+        taskList.addListener(this);
+    }
+
+    private void load() {
+        if (!searchesFile.exists()) {
+            return;
+        }
+        try (BufferedReader reader = new BufferedReader(new FileReader(searchesFile, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                int separator = line.indexOf(SEPARATOR);
+                if (separator > 0) {
+                    String name = line.substring(0, separator);
+                    searches.put(name, build(name, line.substring(separator + SEPARATOR.length())));
+                }
+            }
+        } catch (IOException e) {
+            System.out.println("Error loading saved searches.");
+        }
+    }
+
+    /**
+     * Saves a search, replacing any search with the same name, and returns it with its results.
+     *
+     * @param name    The name to recall the search by.
+     * @param keyword The keyword to look for.
+     * @return The saved search.
+     * @throws IOException If the definitions cannot be written.
+     */
+    public SavedSearch save(String name, String keyword) throws IOException {
+        SavedSearch search = build(name, keyword);
+        searches.put(name, search);
+        write();
+        return search;
+    }
+
+    /**
+     * Deletes a saved search.
+     *
+     * @param name The name of the search.
+     * @return True if a search with that name existed.
+     * @throws IOException If the definitions cannot be written.
+     */
+    public boolean delete(String name) throws IOException {
+        if (searches.remove(name) == null) {
+            return false;
+        }
+        write();
+        return true;
+    }
+
+    /**
+     * Returns the saved search with the given name.
+     *
+     * @param name The name of the search.
+     * @return The search, or null if there is none.
+     */
+    public SavedSearch get(String name) {
+        return searches.get(name);
+    }
+
+    /**
+     * Returns every saved search, in the order they were first saved.
+     *
+     * @return The saved searches.
+     */
+    public List<SavedSearch> getAll() {
+        return new ArrayList<>(searches.values());
+    }
+
+    private SavedSearch build(String name, String keyword) {
+        SavedSearch search = new SavedSearch(name, keyword);
+        search.onInserted(0, taskList.getAll());
+        return search;
+    }
+
+    private void write() throws IOException {
+        File folder = searchesFile.getAbsoluteFile().getParentFile();
+        if (!folder.exists()) {
+            folder.mkdirs();
+        }
+        try (BufferedWriter writer = new BufferedWriter(new FileWriter(searchesFile, StandardCharsets.UTF_8))) {
+            for (SavedSearch search : searches.values()) {
+                writer.write(search.getName() + SEPARATOR + search.getKeyword());
+                writer.newLine();
+            }
+        }
+    }
+
+    @Override
+    public void onAdded(int fromIndex, List<Task> added) {
+        for (SavedSearch search : searches.values()) {
+            search.onInserted(fromIndex, added);
+        }
+    }
+
+    @Override
+    public void onRemoved(int index, Task removed) {
+        for (SavedSearch search : searches.values()) {
+            search.onRemoved(index);
+        }
+    }
+
+    @Override
+    public void onUpdated(int index, Task updated) {
+        for (SavedSearch search : searches.values()) {
+            search.onUpdated(index, updated);
+        }
+    }
+
+    @Override
+    public void onReordered(int[] permutation) {
+        if (searches.isEmpty()) {
+            return;
+        }
+        int[] newIndexOf = new int[permutation.length];
+        for (int i = 0; i < permutation.length; i++) {
+            newIndexOf[permutation[i]] = i;
+        }
+        for (SavedSearch search : searches.values()) {
+            search.onReordered(newIndexOf);
+        }
+    }
+}
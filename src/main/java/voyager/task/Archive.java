@@ -0,0 +1,220 @@
+package voyager.task;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipException;
+
+/**
+ * Cold storage for tasks that have been done for a long time.
+ * The archive is an append-only gzip file: every call to {@link #append} adds one gzip member
+ * holding lines in the same format as the data file, and reading decompresses the members in turn.
+ * Archived tasks are never rewritten, so archiving costs only the size of what is being archived.
+ *
+ * <p>Moving tasks out of the data file touches two files, so a move is bracketed by a pending file.
+ * {@link #beginMove} records the archive length and the tasks being moved before appending them,
+ * and {@link #endMove} deletes the record once the data file has been saved without them. If the
+ * process stops in between, {@link #recover} cuts the archive back to the recorded length, appends
+ * the tasks once more and removes them from the data file, so a task is never archived twice.
+ */
+public class Archive {
+    private static final String PENDING_SUFFIX = ".pending";
+
+    private final File archiveFile;
+    private final File pendingFile;
+
+    /**
+     * Creates an archive backed by the given file.
+     *
+     * @param archiveFile The compressed archive file.
+     */
+    public Archive(File archiveFile) {
+        this.archiveFile = archiveFile;
+        this.pendingFile = new File(archiveFile.getPath() + PENDING_SUFFIX);
+    }
+
+    /**
+     * Returns whether a task has been done for at least the given number of days.
+     *
+     * @param task    The task.
+     * @param today   The current date.
+     * @param minDays Minimum number of days since the task was completed.
+     * @return True if the task should move to the archive.
+     */
+    public static boolean isExpired(voyager.task.Task task, LocalDate today, int minDays) {
+        return task.isDone() && task.getDoneAt() != null
+                && !task.getDoneAt().isAfter(today.minusDays(minDays));
+    }
+
+    /**
+     * Appends tasks to the archive as a new compressed segment.
+     *
+     * @param tasks The tasks to archive.
+     * @return The number of bytes appended to the archive file.
+     * @throws IOException If writing to the archive fails.
+     */
+    public long append(List<voyager.task.Task> tasks) throws IOException {
+        if (tasks.isEmpty()) {
+            return 0;
+        }
+        File folder = archiveFile.getAbsoluteFile().getParentFile();
+        if (!folder.exists()) {
+            folder.mkdirs();
+        }
+
+        long lengthBefore = archiveFile.length();
+        try (BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(
+                new GZIPOutputStream(new FileOutputStream(archiveFile, true)), StandardCharsets.UTF_8))) {
+            for (voyager.task.Task task : tasks) {
+                writer.write(Storage.encodeTask(task));
+                writer.write(System.lineSeparator());
+            }
+        }
+        return archiveFile.length() - lengthBefore;
+    }
+
+    /**
+     * Streams through the archive and returns the tasks matching a filter.
+     * Only the matches are kept in memory. A truncated last segment ends the search instead of failing it.
+     *
+     * @param filter Selects the tasks to return.
+     * @return The matching tasks, oldest archived first.
+     * @throws IOException If reading the archive fails.
+     */
+    public List<voyager.task.Task> find(Predicate<? super voyager.task.Task> filter) throws IOException {
+        List<voyager.task.Task> matches = new ArrayList<>();
+        if (!archiveFile.exists()) {
+            return matches;
+        }
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(new FileInputStream(archiveFile)), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                voyager.task.Task task = Storage.decodeTask(line);
+                if (task != null && filter.test(task)) {
+                    matches.add(task);
+                }
+            }
+        } catch (EOFException | ZipException e) {
+            // The last segment was cut short by a crash mid-append. Only whole lines were returned,
+            // and recover() removes the segment on the next start.
+        }
+        return matches;
+    }
+
+    /**
+     * Returns whether a move was started with {@link #beginMove} but not finished with {@link #endMove}.
+     *
+     * @return True if a move is pending.
+     */
+    public boolean hasPendingMove() {
+        return pendingFile.exists();
+    }
+
+    /**
+     * Records a move and appends the tasks to the archive. The caller must then save the data file
+     * without the tasks and call {@link #endMove}. If appending fails, the archive is cut back and
+     * the record deleted, so nothing has changed.
+     *
+     * @param tasks The tasks to archive.
+     * @return The number of bytes appended to the archive file.
+     * @throws IOException If the move cannot be recorded or the tasks cannot be appended.
+     */
+    public long beginMove(List<voyager.task.Task> tasks) throws IOException {
+        assert !hasPendingMove() : "The previous move should be finished first";
+        long lengthBefore = archiveFile.length();
+        List<String> record = new ArrayList<>(tasks.size() + 1);
+        record.add(Long.toString(lengthBefore));
+        for (voyager.task.Task task : tasks) {
+            record.add(Storage.encodeTask(task));
+        }
+        File folder = archiveFile.getAbsoluteFile().getParentFile();
+        if (!folder.exists()) {
+            folder.mkdirs();
+        }
+        Path temp = Path.of(pendingFile.getPath() + ".tmp");
+        Files.write(temp, record, StandardCharsets.UTF_8);
+        Files.move(temp, pendingFile.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        try {
+            return append(tasks);
+        } catch (IOException e) {
+            truncate(lengthBefore);
+            Files.delete(pendingFile.toPath());
+            throw e;
+        }
+    }
+
+    /**
+     * Finishes a move once the data file has been saved without the archived tasks.
+     *
+     * @throws IOException If the record cannot be deleted.
+     */
+    public void endMove() throws IOException {
+        Files.deleteIfExists(pendingFile.toPath());
+    }
+
+    /**
+     * Repairs the archive after a move that was interrupted, and removes the moved tasks from the
+     * tasks read from the data file if they are still there. The caller must then save the returned
+     * tasks to the data file and call {@link #endMove}.
+     *
+     * @param loaded The tasks read from the data file.
+     * @return The tasks that remain active.
+     * @throws IOException If the archive cannot be repaired.
+     */
+    public List<voyager.task.Task> recover(List<voyager.task.Task> loaded) throws IOException {
+        List<String> record = Files.readAllLines(pendingFile.toPath(), StandardCharsets.UTF_8);
+        truncate(Long.parseLong(record.get(0)));
+        List<voyager.task.Task> moved = new ArrayList<>(record.size() - 1);
+        Map<String, Integer> remaining = new HashMap<>();
+        for (String line : record.subList(1, record.size())) {
+            moved.add(Storage.decodeTask(line));
+            remaining.merge(line, 1, Integer::sum);
+        }
+        append(moved);
+
+        // The moved tasks are either all still in the data file or all gone, depending on whether it
+        // was saved before the interruption. Identical lines were moved together, so counting is enough.
+        List<voyager.task.Task> active = new ArrayList<>(loaded.size());
+        for (voyager.task.Task task : loaded) {
+            String line = Storage.encodeTask(task);
+            if (remaining.getOrDefault(line, 0) > 0) {
+                remaining.merge(line, -1, Integer::sum);
+            } else {
+                active.add(task);
+            }
+        }
+        return active;
+    }
+
+    private void truncate(long length) throws IOException {
+        if (archiveFile.length() <= length) {
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(archiveFile.toPath(), StandardOpenOption.WRITE)) {
+            channel.truncate(length);
+        }
+    }
+}
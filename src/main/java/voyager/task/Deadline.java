@@ -42,8 +42,8 @@ public class Deadline extends voyager.task.Task {
      * @return A formatted string representing the deadline task.
      */
     @Override
-    public String toString() {
-        return "[D]" + super.toString()
+    protected String render() {
+        return "[D]" + super.render()
                 + " (by: " + by.format(OUTPUT_FORMAT) + ")";
     }
 }
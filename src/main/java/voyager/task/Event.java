@@ -49,8 +49,8 @@ public class Event extends voyager.task.Task {
      * @return A formatted string representing the event task.
      */
     @Override
-    public String toString() {
-        return "[E]" + super.toString() + " (from: " + from + " to: " + to + ")";
+    protected String render() {
+        return "[E]" + super.render() + " (from: " + from + " to: " + to + ")";
     }
 }
 
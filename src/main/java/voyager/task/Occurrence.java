@@ -0,0 +1,50 @@
+package voyager.task;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * A task falling on a particular date, as listed by a date-range query.
+ * Recurring tasks produce one occurrence per date in the window; deadlines produce one for their due date.
+ */
+public class Occurrence {
+    private static final DateTimeFormatter OUTPUT_FORMAT =
+            DateTimeFormatter.ofPattern("MMM dd yyyy");
+
+    private final LocalDate date;
+    private final Task task;
+
+    /**
+     * Creates an occurrence.
+     *
+     * @param date The date the task falls on.
+     * @param task The task.
+     */
+    public Occurrence(LocalDate date, Task task) {
+        this.date = date;
+        this.task = task;
+    }
+
+    /**
+     * Returns the date the task falls on.
+     *
+     * @return The date.
+     */
+    public LocalDate getDate() {
+        return date;
+    }
+
+    /**
+     * Returns the task.
+     *
+     * @return The task.
+     */
+    public Task getTask() {
+        return task;
+    }
+
+    @Override
+    public String toString() {
+        return date.format(OUTPUT_FORMAT) + ": " + task;
+    }
+}
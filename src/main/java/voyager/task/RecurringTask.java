@@ -0,0 +1,173 @@
+package voyager.task;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Represents a task that repeats every week or every month.
+ * Only the rule is stored; individual occurrences are computed on demand for the
+ * date window a query asks for, so memory and storage stay proportional to the number of rules.
+ */
+public class RecurringTask extends voyager.task.Task {
+
+    /**
+     * How often a recurring task repeats.
+     */
+    public enum Frequency {
+        WEEKLY("week"),
+        MONTHLY("month");
+
+        private final String unit;
+
+        Frequency(String unit) {
+            this.unit = unit;
+        }
+
+        /**
+         * Returns the frequency named by a user-facing word such as "week" or "monthly".
+         *
+         * @param word The word typed by the user.
+         * @return The matching frequency, or null if none matches.
+         */
+        public static Frequency fromWord(String word) {
+            for (Frequency frequency : values()) {
+                if (word.equalsIgnoreCase(frequency.unit) || word.equalsIgnoreCase(frequency.name())) {
+                    return frequency;
+                }
+            }
+            return null;
+        }
+    }
+
+    private static final DateTimeFormatter OUTPUT_FORMAT =
+            DateTimeFormatter.ofPattern("MMM dd yyyy");
+
+    private final LocalDate start;
+    private final Frequency frequency;
+    private final LocalDate until;
+
+    /**
+     * Initializes a new recurring task.
+     *
+     * @param description Task description.
+     * @param start       Date of the first occurrence.
+     * @param frequency   How often the task repeats.
+     * @param until       Last date an occurrence may fall on, or null if the task repeats forever.
+     */
+    public RecurringTask(String description, LocalDate start, Frequency frequency, LocalDate until) {
+        super(description);
+        this.start = start;
+        this.frequency = frequency;
+        this.until = until;
+    }
+
+    /**
+     * Returns the date of the first occurrence.
+     *
+     * @return The start date.
+     */
+    public LocalDate getStart() {
+        return start;
+    }
+
+    /**
+     * Returns how often the task repeats.
+     *
+     * @return The frequency.
+     */
+    public Frequency getFrequency() {
+        return frequency;
+    }
+
+    /**
+     * Returns the last date an occurrence may fall on.
+     *
+     * @return The end date, or null if the task repeats forever.
+     */
+    public LocalDate getUntil() {
+        return until;
+    }
+
+    /**
+     * Returns the first occurrence on or after the given date.
+     *
+     * @param date The earliest date to consider.
+     * @return The next occurrence, or null if the series has ended by then.
+     */
+    public LocalDate nextOccurrence(LocalDate date) {
+        LocalDate next = occurrence(firstIndexOnOrAfter(date));
+        return isWithinSeries(next) ? next : null;
+    }
+
+    /**
+     * Returns every occurrence within the given window, computing only the dates inside it.
+     *
+     * @param from First date of the window (inclusive).
+     * @param to   Last date of the window (inclusive).
+     * @return The occurrences in date order.
+     */
+    public List<LocalDate> occurrencesBetween(LocalDate from, LocalDate to) {
+        List<LocalDate> occurrences = new ArrayList<>();
+        for (long i = firstIndexOnOrAfter(from); ; i++) {
+            LocalDate occurrence = occurrence(i);
+            if (occurrence.isAfter(to) || !isWithinSeries(occurrence)) {
+                return occurrences;
+            }
+            occurrences.add(occurrence);
+        }
+    }
+
+    /**
+     * Returns the index of the first occurrence that falls on or after the given date.
+     * Jumps straight to the right neighbourhood instead of stepping from the start date.
+     */
+    private long firstIndexOnOrAfter(LocalDate date) {
+        if (!date.isAfter(start)) {
+            return 0;
+        }
+        long index;
+        if (frequency == Frequency.WEEKLY) {
+            index = ChronoUnit.WEEKS.between(start, date);
+        } else {
+            index = ChronoUnit.MONTHS.between(start, date);
+        }
+        while (occurrence(index).isBefore(date)) {
+            index++;
+        }
+        return index;
+    }
+
+    /**
+     * Returns the occurrence with the given index. Monthly occurrences are always offset from the
+     * start date, so a series starting on the 31st falls on the last day of shorter months
+     * without drifting.
+     */
+    private LocalDate occurrence(long index) {
+        if (frequency == Frequency.WEEKLY) {
+            return start.plusWeeks(index);
+        }
+        return start.plusMonths(index);
+    }
+
+    private boolean isWithinSeries(LocalDate occurrence) {
+        return until == null || !occurrence.isAfter(until);
+    }
+
+    /**
+     * Returns a string representation of the recurring task.
+     * The string includes the task type [R], the status icon, the description and the rule.
+     *
+     * @return A formatted string representing the recurring task.
+     */
+    @Override
+    protected String render() {
+        String rule = "every " + frequency.unit + " from " + start.format(OUTPUT_FORMAT);
+        if (until != null) {
+            rule += " until " + until.format(OUTPUT_FORMAT);
+        }
+        return "[R]" + super.render() + " (" + rule + ")";
+    }
+}
@@ -1,11 +1,21 @@
 package voyager.task;
 
+import voyager.metrics.AllocationCounter;
+import voyager.metrics.LoadEvent;
+import voyager.metrics.SaveEvent;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
 import java.io.File;
+import java.io.FileReader;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Scanner;
 
 /**
  * Handles the loading and saving of tasks to a local text file.
@@ -15,63 +25,147 @@ public class Storage {
     private static final String DATA_FOLDER = "data";
     private static final String DATA_FILE =
             DATA_FOLDER + File.separator + "voyager.txt";
+    private static final int PROGRESS_INTERVAL_LINES = 1024;
+    private static final String DONE_AT_SEPARATOR = "@";
+    private static final String FIELD_SEPARATOR_PATTERN = " \\| ";
+    private static final String BACKUP_SUFFIX = ".bak";
+
+    private final File dataFile;
+
+    /**
+     * Receives progress updates while the data file is being loaded.
+     */
+    public interface ProgressListener {
+        /**
+         * Called periodically while loading, and once more when loading completes.
+         *
+         * @param bytesRead  Approximate number of bytes read so far.
+         * @param totalBytes Size of the data file in bytes.
+         */
+        void onProgress(long bytesRead, long totalBytes);
+    }
+
+    /**
+     * Creates a storage backed by the default data file, {@code data/voyager.txt}.
+     */
+    public Storage() {
+        this(DATA_FILE);
+    }
+
+    /**
+     * Creates a storage backed by the given data file.
+     *
+     * @param filePath Path of the data file.
+     */
+    public Storage(String filePath) {
+        this.dataFile = new File(filePath);
+    }
+
+    /**
+     * Returns the data file this storage reads from and writes to.
+     *
+     * @return The data file.
+     */
+    public File getDataFile() {
+        return dataFile;
+    }
+
+    /**
+     * Returns the file a data file with unreadable lines is copied to before it is loaded.
+     *
+     * @return The backup file.
+     */
+    public File getBackupFile() {
+        return new File(dataFile.getPath() + BACKUP_SUFFIX);
+    }
 
     /**
      * Loads tasks from the data file into the provided task list.
      * If the data folder or file does not exist, they will be created.
      *
      * @param tasks The list where loaded tasks will be stored.
+     * @return The line numbers (1-based) that could not be read and were skipped.
      */
-    public void loadTasks(List<Task> tasks) {
+    public List<Integer> loadTasks(List<Task> tasks) {
+        return loadTasks(tasks, null);
+    }
+
+    /**
+     * Loads tasks from the data file into the provided task list, reporting progress as it goes.
+     * If the data folder or file does not exist, they will be created.
+     * Lines that cannot be read, such as a hand-edited line with a bad date or a missing field,
+     * are skipped. The next save would drop them, so the file is first copied to the
+     * {@link #getBackupFile() backup file}.
+     *
+     * @param tasks    The list where loaded tasks will be stored.
+     * @param listener Receives progress updates, or null if progress is not needed.
+     * @return The line numbers (1-based) that could not be read and were skipped.
+     */
+    public List<Integer> loadTasks(List<Task> tasks, ProgressListener listener) {
+        LoadEvent event = new LoadEvent();
+        event.begin();
+        long allocatedBefore = event.isEnabled() ? AllocationCounter.currentThreadAllocatedBytes() : 0;
+        int sizeBefore = tasks.size();
+        long bytesRead = 0;
+        List<Integer> skippedLines = new ArrayList<>();
+
         try {
-            File folder = new File(DATA_FOLDER);
+            File folder = dataFile.getAbsoluteFile().getParentFile();
             if (!folder.exists()) {
-                folder.mkdir();
+                folder.mkdirs();
             }
 
-            File file = new File(DATA_FILE);
+            File file = dataFile;
             if (!file.exists()) {
                 file.createNewFile();
-                return;
+                return skippedLines;
             }
 
-            Scanner fileScanner = new Scanner(file);
-
-            while (fileScanner.hasNextLine()) {
-                String line = fileScanner.nextLine();
-                String[] parts = line.split(" \\| ");
-
-                String type = parts[0];
-                boolean isDone = parts[1].equals("1");
-                String desc = parts[2];
-
-                voyager.task.Task task;
-
-                switch (type) {
-                    case "T":
-                        task = new voyager.task.ToDo(desc);
-                        break;
-                    case "D":
-                        task = new Deadline(desc, LocalDate.parse(parts[3]));
-                        break;
-                    case "E":
-                        task = new Event(desc, parts[3], parts[4]);
-                        break;
-                    default:
+            long totalBytes = file.length();
+            int linesRead = 0;
+            try (BufferedReader reader = new BufferedReader(new FileReader(file, StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    bytesRead += line.length() + 1;
+                    linesRead++;
+                    if (listener != null && linesRead % PROGRESS_INTERVAL_LINES == 0) {
+                        listener.onProgress(Math.min(bytesRead, totalBytes), totalBytes);
+                    }
+
+                    voyager.task.Task task;
+                    try {
+                        task = decodeTask(line);
+                    } catch (RuntimeException e) {
+                        skippedLines.add(linesRead);
                         continue;
-                }
+                    }
+                    if (task == null) {
+                        continue;
+                    }
 
-                if (isDone) {
-                    task.mark();
+                    tasks.add(task);
                 }
-
-                tasks.add(task);
             }
 
-            fileScanner.close();
+            if (!skippedLines.isEmpty()) {
+                Files.copy(file.toPath(), getBackupFile().toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+            if (listener != null) {
+                listener.onProgress(totalBytes, totalBytes);
+            }
         } catch (IOException e) {
             System.out.println("Error loading tasks.");
         }
+
+        event.end();
+        if (event.shouldCommit()) {
+            event.file = dataFile.getPath();
+            event.taskCount = tasks.size() - sizeBefore;
+            event.bytesRead = bytesRead;
+            event.allocatedBytes = AllocationCounter.currentThreadAllocatedBytes() - allocatedBefore;
+            event.commit();
+        }
+        return skippedLines;
     }
 
 
@@ -79,16 +173,111 @@ public class Storage {
      * Saves all tasks currently in the list to the hard disk.
      *
      * @param tasks The list of tasks to be written to the file.
+     * @return The size of the data file in bytes after writing.
      * @throws IOException If there is an error writing to the data file.
      */
-    public void save(List<voyager.task.Task> tasks) throws IOException {
-        FileWriter writer = new FileWriter(DATA_FILE);
+    public long save(List<voyager.task.Task> tasks) throws IOException {
+        SaveEvent event = new SaveEvent();
+        event.begin();
+        long allocatedBefore = event.isEnabled() ? AllocationCounter.currentThreadAllocatedBytes() : 0;
+
+        FileWriter writer = new FileWriter(dataFile, StandardCharsets.UTF_8);
 
         for (voyager.task.Task task : tasks) {
             writer.write(encodeTask(task) + System.lineSeparator());
         }
 
         writer.close();
+        long bytesWritten = dataFile.length();
+
+        event.end();
+        if (event.shouldCommit()) {
+            event.file = dataFile.getPath();
+            event.taskCount = tasks.size();
+            event.bytesWritten = bytesWritten;
+            event.allocatedBytes = AllocationCounter.currentThreadAllocatedBytes() - allocatedBefore;
+            event.commit();
+        }
+        return bytesWritten;
+    }
+
+    /**
+     * Appends tasks to the end of the data file without rewriting the tasks already stored.
+     *
+     * @param tasks The tasks to append, in order.
+     * @return The number of bytes appended.
+     * @throws IOException If there is an error writing to the data file.
+     */
+    public long append(List<voyager.task.Task> tasks) throws IOException {
+        SaveEvent event = new SaveEvent();
+        event.begin();
+        long allocatedBefore = event.isEnabled() ? AllocationCounter.currentThreadAllocatedBytes() : 0;
+
+        File folder = dataFile.getParentFile();
+        if (folder != null && !folder.exists()) {
+            folder.mkdirs();
+        }
+        long lengthBefore = dataFile.length();
+        try (BufferedWriter writer = new BufferedWriter(new FileWriter(dataFile, StandardCharsets.UTF_8, true))) {
+            for (voyager.task.Task task : tasks) {
+                writer.write(encodeTask(task));
+                writer.write(System.lineSeparator());
+            }
+        }
+        long bytesWritten = dataFile.length() - lengthBefore;
+
+        event.end();
+        if (event.shouldCommit()) {
+            event.file = dataFile.getPath();
+            event.taskCount = tasks.size();
+            event.bytesWritten = bytesWritten;
+            event.allocatedBytes = AllocationCounter.currentThreadAllocatedBytes() - allocatedBefore;
+            event.commit();
+        }
+        return bytesWritten;
+    }
+
+    /**
+     * Converts a line of the data file back into a task.
+     * A done task's status may carry its completion date, as in {@code 1@2026-01-31}. Lines written
+     * before completion dates were recorded have a bare {@code 1} and are treated as done today.
+     *
+     * @param line A pipe-separated line written by {@link #encodeTask}.
+     * @return The task, or null if the line has an unknown type.
+     */
+    public static voyager.task.Task decodeTask(String line) {
+        String[] parts = line.split(FIELD_SEPARATOR_PATTERN, -1);
+
+        String type = parts[0];
+        String status = parts[1];
+        String desc = unescape(parts[2]);
+
+        voyager.task.Task task;
+
+        switch (type) {
+            case "T":
+                task = new voyager.task.ToDo(desc);
+                break;
+            case "D":
+                task = new Deadline(desc, LocalDate.parse(parts[3]));
+                break;
+            case "E":
+                task = new Event(desc, unescape(parts[3]), unescape(parts[4]));
+                break;
+            case "R":
+                LocalDate until = parts.length > 5 ? LocalDate.parse(parts[5]) : null;
+                task = new RecurringTask(desc, LocalDate.parse(parts[3]),
+                        RecurringTask.Frequency.valueOf(parts[4]), until);
+                break;
+            default:
+                return null;
+        }
+
+        if (status.startsWith("1")) {
+            int separator = status.indexOf(DONE_AT_SEPARATOR);
+            task.mark(separator < 0 ? LocalDate.now() : LocalDate.parse(status.substring(separator + 1)));
+        }
+        return task;
     }
 
     /**
@@ -97,23 +286,116 @@ public class Storage {
      * @param task The task to be encoded.
      * @return A pipe-separated string representing the task.
      */
-    private String encodeTask(voyager.task.Task task) {
+    public static String encodeTask(voyager.task.Task task) {
         String status = task.isDone() ? "1" : "0";
+        if (task.getDoneAt() != null) {
+            status += DONE_AT_SEPARATOR + task.getDoneAt();
+        }
 
+        String desc = escape(task.getDescription());
         if (task instanceof voyager.task.ToDo) {
-            return "T | " + status + " | " + task.getDescription();
+            return "T | " + status + " | " + desc;
         } else if (task instanceof Deadline) {
             Deadline d = (Deadline) task;
             return "D | " + status + " | "
-                    + task.getDescription() + " | " + d.getBy();
+                    + desc + " | " + d.getBy();
         } else if (task instanceof Event) {
             Event e = (Event) task;
             return "E | " + status + " | "
-                    + task.getDescription()
-                    + " | " + e.getFrom()
-                    + " | " + e.getTo();
+                    + desc
+                    + " | " + escape(e.getFrom())
+                    + " | " + escape(e.getTo());
+        } else if (task instanceof RecurringTask) {
+            RecurringTask r = (RecurringTask) task;
+            String until = r.getUntil() == null ? "" : " | " + r.getUntil();
+            return "R | " + status + " | "
+                    + desc
+                    + " | " + r.getStart()
+                    + " | " + r.getFrequency()
+                    + until;
         }
 
         return "";
     }
+
+    /**
+     * Escapes a free-text field so that it cannot be mistaken for a field separator or end the line.
+     * Every {@code |} is preceded by a backslash, so the separator {@code " | "} never appears inside a field.
+     *
+     * @param text The field value.
+     * @return The escaped value.
+     */
+    private static String escape(String text) {
+        StringBuilder sb = null;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            String replacement;
+            switch (c) {
+                case '\\':
+                    replacement = "\\\\";
+                    break;
+                case '|':
+                    replacement = "\\|";
+                    break;
+                case '\n':
+                    replacement = "\\n";
+                    break;
+                case '\r':
+                    replacement = "\\r";
+                    break;
+                default:
+                    replacement = null;
+                    break;
+            }
+            if (replacement != null && sb == null) {
+                sb = new StringBuilder(text.length() + 8).append(text, 0, i);
+            }
+            if (sb != null) {
+                if (replacement != null) {
+                    sb.append(replacement);
+                } else {
+                    sb.append(c);
+                }
+            }
+        }
+        return sb == null ? text : sb.toString();
+    }
+
+    /**
+     * Reverses {@link #escape}.
+     *
+     * @param text The escaped field value.
+     * @return The original value.
+     */
+    private static String unescape(String text) {
+        if (text.indexOf('\\') < 0) {
+            return text;
+        }
+        StringBuilder sb = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c != '\\' || i + 1 == text.length()) {
+                sb.append(c);
+                continue;
+            }
+            char escaped = text.charAt(++i);
+            switch (escaped) {
+                case 'n':
+                    sb.append('\n');
+                    break;
+                case 'r':
+                    sb.append('\r');
+                    break;
+                case '\\':
+                case '|':
+                    sb.append(escaped);
+                    break;
+                default:
+                    // Not an escape this class writes, e.g. a backslash saved by an older version.
+                    sb.append(c).append(escaped);
+                    break;
+            }
+        }
+        return sb.toString();
+    }
 }
\ No newline at end of file
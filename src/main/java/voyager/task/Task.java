@@ -1,5 +1,7 @@
 package voyager.task;
 
+import java.time.LocalDate;
+
 /**
  * Represents a generic task that can be managed by the application.
  * A Task contains a description and a status tracking whether it is completed.
@@ -8,6 +10,8 @@ public class Task {
 
     private String description;
     private boolean isDone;
+    private LocalDate doneAt;
+    private String displayLine;
 
     /**
      * Initializes a new task with the given description.
@@ -21,10 +25,21 @@ public class Task {
     }
 
     /**
-     * Marks the task as completed.
+     * Marks the task as completed today.
      */
     public void mark() {
+        mark(LocalDate.now());
+    }
+
+    /**
+     * Marks the task as completed on the given date.
+     *
+     * @param doneAt The date the task was completed.
+     */
+    public void mark(LocalDate doneAt) {
         this.isDone = true;
+        this.doneAt = doneAt;
+        invalidateDisplay();
     }
 
     /**
@@ -32,6 +47,8 @@ public class Task {
      */
     public void unmark() {
         this.isDone = false;
+        this.doneAt = null;
+        invalidateDisplay();
     }
 
     /**
@@ -50,6 +67,15 @@ public class Task {
         return isDone;
     }
 
+    /**
+     * Returns the date the task was completed.
+     *
+     * @return The completion date, or null if the task is not done.
+     */
+    public LocalDate getDoneAt() {
+        return doneAt;
+    }
+
     /**
      * Returns the status icon of the task.
      *
@@ -61,12 +87,34 @@ public class Task {
 
     /**
      * Returns a string representation of the task.
-     * The string includes the status icon and the description.
+     * The string is rendered once and cached until the task changes, so listing the same
+     * tasks repeatedly does not rebuild their display lines.
      * * @return A formatted string representing the task.
      */
     @Override
-    public String toString() {
+    public final String toString() {
+        if (displayLine == null) {
+            displayLine = render();
+        }
+        return displayLine;
+    }
+
+    /**
+     * Builds the display line of the task.
+     * The line includes the status icon and the description. Subclasses add their own details.
+     *
+     * @return A formatted string representing the task.
+     */
+    protected String render() {
         return getStatusIcon() + " " + description;
     }
+
+    /**
+     * Discards the cached display line. Must be called whenever a field shown by
+     * {@link #render()} changes.
+     */
+    protected void invalidateDisplay() {
+        displayLine = null;
+    }
 }
 
@@ -2,14 +2,22 @@ package voyager.task;
 
 import voyager.exception.VoyagerException;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
+import java.util.function.Predicate;
 
 /**
  * Represents a list of tasks and provides operations to modify it.
+ * Every modification is published to the registered {@link TaskListListener}s.
  */
 public class TaskList {
     private final List<Task> tasks;
+    private final List<TaskListListener> listeners = new ArrayList<>();
+    private long version;
 
     /**
      * Creates an empty task list.
@@ -28,12 +36,32 @@ public class TaskList {
     }
 
     /**
-     * Returns all tasks.
+     * Registers a listener to be notified of every change to the list.
+     *
+     * @param listener Listener to add.
+     */
+    public void addListener(TaskListListener listener) {
+        assert listener != null : "TaskList listeners should not be null";
+        listeners.add(listener);
+    }
+
+    /**
+     * Unregisters a previously added listener.
+     *
+     * @param listener Listener to remove.
+     */
+    public void removeListener(TaskListListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Returns all tasks as a read-only view.
+     * Changes must go through the methods of this class so that listeners are notified.
      *
      * @return Task list.
      */
     public List<voyager.task.Task> getAll() {
-        return tasks;
+        return Collections.unmodifiableList(tasks);
     }
 
     /**
@@ -42,8 +70,39 @@ public class TaskList {
      * @param task Task to add.
      */
     public void add(voyager.task.Task task) {
+        insert(tasks.size(), task);
+    }
+
+    /**
+     * Adds tasks to the end of the list as a single change.
+     *
+     * @param added Tasks to add.
+     */
+    public void addAll(List<voyager.task.Task> added) {
+        if (added.isEmpty()) {
+            return;
+        }
+        int fromIndex = tasks.size();
+        tasks.addAll(added);
+        version++;
+        for (TaskListListener listener : listeners) {
+            listener.onAdded(fromIndex, Collections.unmodifiableList(added));
+        }
+    }
+
+    /**
+     * Inserts a task at the given index, shifting later tasks down.
+     *
+     * @param index Index to insert at (0-based).
+     * @param task  Task to insert.
+     */
+    public void insert(int index, voyager.task.Task task) {
         assert task != null : "TaskList should not contain null tasks";
-        tasks.add(task);
+        tasks.add(index, task);
+        version++;
+        for (TaskListListener listener : listeners) {
+            listener.onAdded(index, List.of(task));
+        }
     }
 
     /**
@@ -55,7 +114,61 @@ public class TaskList {
      */
     public voyager.task.Task remove(int index) throws VoyagerException {
         checkIndex(index);
-        return tasks.remove(index);
+        voyager.task.Task removed = tasks.remove(index);
+        version++;
+        for (TaskListListener listener : listeners) {
+            listener.onRemoved(index, removed);
+        }
+        return removed;
+    }
+
+    /**
+     * Replaces the task at the given index.
+     *
+     * @param index Index to replace (0-based).
+     * @param task  The new task.
+     * @throws VoyagerException If index is invalid.
+     */
+    public void set(int index, voyager.task.Task task) throws VoyagerException {
+        assert task != null : "TaskList should not contain null tasks";
+        checkIndex(index);
+        fireUpdating(index, tasks.get(index));
+        tasks.set(index, task);
+        fireUpdated(index, task);
+    }
+
+    /**
+     * Removes every task matching a predicate in a single pass.
+     * Listeners are notified from the highest index down, so each index refers to the list
+     * as it was after the previous notification.
+     *
+     * @param filter Selects the tasks to remove.
+     * @return The removed tasks, in their original order.
+     */
+    public List<voyager.task.Task> removeIf(Predicate<? super voyager.task.Task> filter) {
+        List<voyager.task.Task> removed = new ArrayList<>();
+        List<Integer> removedIndices = new ArrayList<>();
+        int kept = 0;
+        for (int i = 0; i < tasks.size(); i++) {
+            voyager.task.Task task = tasks.get(i);
+            if (filter.test(task)) {
+                removed.add(task);
+                removedIndices.add(i);
+            } else {
+                tasks.set(kept++, task);
+            }
+        }
+        tasks.subList(kept, tasks.size()).clear();
+        if (!removed.isEmpty()) {
+            version++;
+        }
+
+        for (int i = removed.size() - 1; i >= 0; i--) {
+            for (TaskListListener listener : listeners) {
+                listener.onRemoved(removedIndices.get(i), removed.get(i));
+            }
+        }
+        return removed;
     }
 
     /**
@@ -66,9 +179,23 @@ public class TaskList {
      * @throws VoyagerException If index is invalid.
      */
     public voyager.task.Task mark(int index) throws VoyagerException {
+        return mark(index, LocalDate.now());
+    }
+
+    /**
+     * Marks a task as done on the given date.
+     *
+     * @param index  Index to mark (0-based).
+     * @param doneAt The date the task was completed.
+     * @return Marked task.
+     * @throws VoyagerException If index is invalid.
+     */
+    public voyager.task.Task mark(int index, LocalDate doneAt) throws VoyagerException {
         checkIndex(index);
         voyager.task.Task task = tasks.get(index);
-        task.mark();
+        fireUpdating(index, task);
+        task.mark(doneAt);
+        fireUpdated(index, task);
         return task;
     }
 
@@ -82,10 +209,61 @@ public class TaskList {
     public voyager.task.Task unmark(int index) throws VoyagerException {
         checkIndex(index);
         voyager.task.Task task = tasks.get(index);
+        fireUpdating(index, task);
         task.unmark();
+        fireUpdated(index, task);
         return task;
     }
 
+    /**
+     * Stably sorts the list with the given comparator.
+     *
+     * @param comparator Ordering to sort by.
+     */
+    public void sort(Comparator<? super voyager.task.Task> comparator) {
+        Integer[] order = new Integer[tasks.size()];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (i, j) -> comparator.compare(tasks.get(i), tasks.get(j)));
+
+        int[] permutation = new int[order.length];
+        for (int i = 0; i < order.length; i++) {
+            permutation[i] = order[i];
+        }
+        reorder(permutation);
+    }
+
+    /**
+     * Rearranges the list so that the task previously at {@code permutation[i]} ends up at index {@code i}.
+     *
+     * @param permutation A permutation of the current indices.
+     */
+    public void reorder(int[] permutation) {
+        assert permutation.length == tasks.size() : "Permutation should cover every task";
+        voyager.task.Task[] reordered = new voyager.task.Task[permutation.length];
+        for (int i = 0; i < permutation.length; i++) {
+            reordered[i] = tasks.get(permutation[i]);
+        }
+        for (int i = 0; i < reordered.length; i++) {
+            tasks.set(i, reordered[i]);
+        }
+        version++;
+        for (TaskListListener listener : listeners) {
+            listener.onReordered(permutation);
+        }
+    }
+
+    /**
+     * Returns a counter that changes whenever the list or one of its tasks is modified.
+     * Anything computed from the list can be reused for as long as the version stays the same.
+     *
+     * @return The modification version.
+     */
+    public long getVersion() {
+        return version;
+    }
+
     /**
      * Returns number of tasks.
      *
@@ -95,6 +273,19 @@ public class TaskList {
         return tasks.size();
     }
 
+    private void fireUpdating(int index, voyager.task.Task task) {
+        for (TaskListListener listener : listeners) {
+            listener.onUpdating(index, task);
+        }
+    }
+
+    private void fireUpdated(int index, voyager.task.Task task) {
+        version++;
+        for (TaskListListener listener : listeners) {
+            listener.onUpdated(index, task);
+        }
+    }
+
     /**
      * Checks if index is valid.
      *
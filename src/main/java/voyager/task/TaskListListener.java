@@ -0,0 +1,53 @@
+package voyager.task;
+
+import java.util.List;
+
+/**
+ * Receives fine-grained change notifications from a {@link TaskList}.
+ * Each callback describes a single change, so a listener only needs to apply the delta
+ * instead of re-reading the whole list.
+ */
+public interface TaskListListener {
+    /**
+     * Called after tasks are inserted as a contiguous range.
+     *
+     * @param fromIndex Index of the first inserted task (0-based).
+     * @param added     The inserted tasks, in list order.
+     */
+    void onAdded(int fromIndex, List<Task> added);
+
+    /**
+     * Called after a task is removed.
+     *
+     * @param index   Index the task occupied before removal (0-based).
+     * @param removed The removed task.
+     */
+    void onRemoved(int index, Task removed);
+
+    /**
+     * Called just before a task changes in place, while it still holds its old state.
+     * Listeners that only mirror the list can ignore this; it lets a listener remember what the
+     * task looked like before the matching {@link #onUpdated} call.
+     *
+     * @param index Index of the task (0-based).
+     * @param task  The task about to change.
+     */
+    default void onUpdating(int index, Task task) {
+    }
+
+    /**
+     * Called after a task changes in place, for example when it is marked or unmarked.
+     *
+     * @param index   Index of the task (0-based).
+     * @param updated The updated task.
+     */
+    void onUpdated(int index, Task updated);
+
+    /**
+     * Called after the whole list is reordered.
+     *
+     * @param permutation For each new index {@code i}, {@code permutation[i]} is the index
+     *                    the task occupied before the reorder.
+     */
+    void onReordered(int[] permutation);
+}
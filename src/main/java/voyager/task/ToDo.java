@@ -15,7 +15,7 @@ public class ToDo extends voyager.task.Task {
     }
 
     @Override
-    public String toString() {
-        return "[T]" + super.toString();
+    protected String render() {
+        return "[T]" + super.render();
     }
 }
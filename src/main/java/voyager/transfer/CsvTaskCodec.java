@@ -0,0 +1,105 @@
+package voyager.transfer;
+
+import voyager.exception.VoyagerException;
+import voyager.task.Task;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads and writes tasks as comma-separated values with a header row.
+ * Columns follow {@link TaskFields#ALL}. Fields containing commas or quotes are quoted, with
+ * embedded quotes doubled. Each record must fit on one line, so tasks with line breaks are
+ * rejected on export rather than written as records the importer could not read back.
+ */
+public class CsvTaskCodec implements TaskCodec {
+    private static final String HEADER = String.join(",", TaskFields.ALL);
+
+    @Override
+    public String header() {
+        return HEADER;
+    }
+
+    @Override
+    public boolean isHeader(String line) {
+        return line.equalsIgnoreCase(HEADER) || line.toLowerCase().startsWith(TaskFields.TYPE + ",");
+    }
+
+    @Override
+    public String encode(Task task) throws VoyagerException {
+        Map<String, String> fields = TaskFields.fromTask(task);
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < TaskFields.ALL.size(); i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            String value = fields.get(TaskFields.ALL.get(i));
+            if (value != null && (value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0)) {
+                throw new VoyagerException("'" + TaskFields.ALL.get(i) + "' contains a line break, "
+                        + "which CSV cannot hold; export to .jsonl instead");
+            }
+            if (value != null) {
+                appendField(sb, value);
+            }
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public Task decode(String line) throws VoyagerException {
+        List<String> values = split(line);
+        if (values.size() > TaskFields.ALL.size()) {
+            throw new VoyagerException("expected at most " + TaskFields.ALL.size() + " columns");
+        }
+        Map<String, String> fields = new HashMap<>();
+        for (int i = 0; i < values.size(); i++) {
+            fields.put(TaskFields.ALL.get(i), values.get(i));
+        }
+        return TaskFields.toTask(fields);
+    }
+
+    private static void appendField(StringBuilder sb, String value) {
+        boolean needsQuotes = value.indexOf(',') >= 0 || value.indexOf('"') >= 0;
+        if (!needsQuotes) {
+            sb.append(value);
+            return;
+        }
+        sb.append('"').append(value.replace("\"", "\"\"")).append('"');
+    }
+
+    private static List<String> split(String line) throws VoyagerException {
+        List<String> values = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        int i = 0;
+        while (true) {
+            if (i < line.length() && line.charAt(i) == '"') {
+                i++;
+                while (true) {
+                    if (i >= line.length()) {
+                        throw new VoyagerException("unterminated quoted field");
+                    }
+                    char c = line.charAt(i++);
+                    if (c != '"') {
+                        field.append(c);
+                    } else if (i < line.length() && line.charAt(i) == '"') {
+                        field.append('"');
+                        i++;
+                    } else {
+                        break;
+                    }
+                }
+            }
+            while (i < line.length() && line.charAt(i) != ',') {
+                field.append(line.charAt(i++));
+            }
+            values.add(field.toString());
+            field.setLength(0);
+            if (i >= line.length()) {
+                return values;
+            }
+            i++;
+        }
+    }
+}
@@ -0,0 +1,217 @@
+package voyager.transfer;
+
+import voyager.exception.VoyagerException;
+import voyager.task.Task;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Reads and writes tasks as JSON Lines: one flat JSON object per line, with the keys of
+ * {@link TaskFields}. {@code done} is written as a boolean and every other value as a string.
+ * Only flat objects are accepted, which is all this format ever needs.
+ */
+public class JsonLinesTaskCodec implements TaskCodec {
+    @Override
+    public String header() {
+        return null;
+    }
+
+    @Override
+    public boolean isHeader(String line) {
+        return false;
+    }
+
+    @Override
+    public String encode(Task task) {
+        StringBuilder sb = new StringBuilder("{");
+        for (Map.Entry<String, String> field : TaskFields.fromTask(task).entrySet()) {
+            if (sb.length() > 1) {
+                sb.append(',');
+            }
+            appendString(sb, field.getKey());
+            sb.append(':');
+            if (field.getKey().equals(TaskFields.DONE)) {
+                sb.append(field.getValue());
+            } else {
+                appendString(sb, field.getValue());
+            }
+        }
+        return sb.append('}').toString();
+    }
+
+    @Override
+    public Task decode(String line) throws VoyagerException {
+        return TaskFields.toTask(new Reader(line).readObject());
+    }
+
+    private static void appendString(StringBuilder sb, String value) {
+        sb.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    sb.append("\\\"");
+                    break;
+                case '\\':
+                    sb.append("\\\\");
+                    break;
+                case '\n':
+                    sb.append("\\n");
+                    break;
+                case '\r':
+                    sb.append("\\r");
+                    break;
+                case '\t':
+                    sb.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        sb.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        sb.append(c);
+                    }
+                    break;
+            }
+        }
+        sb.append('"');
+    }
+
+    /**
+     * A minimal reader for one flat JSON object whose values are strings, booleans, numbers or null.
+     */
+    private static class Reader {
+        private final String text;
+        private int pos;
+
+        Reader(String text) {
+            this.text = text;
+        }
+
+        Map<String, String> readObject() throws VoyagerException {
+            Map<String, String> fields = new HashMap<>();
+            skipWhitespace();
+            expect('{');
+            skipWhitespace();
+            if (peek() == '}') {
+                pos++;
+                return fields;
+            }
+            while (true) {
+                skipWhitespace();
+                String key = readString();
+                skipWhitespace();
+                expect(':');
+                skipWhitespace();
+                fields.put(key, readValue());
+                skipWhitespace();
+                char c = next();
+                if (c == '}') {
+                    break;
+                }
+                if (c != ',') {
+                    throw new VoyagerException("expected ',' or '}' at column " + pos);
+                }
+            }
+            skipWhitespace();
+            if (pos < text.length()) {
+                throw new VoyagerException("unexpected text after object at column " + (pos + 1));
+            }
+            return fields;
+        }
+
+        private String readValue() throws VoyagerException {
+            char c = peek();
+            if (c == '"') {
+                return readString();
+            }
+            if (c == '{' || c == '[') {
+                throw new VoyagerException("nested values are not supported");
+            }
+            int start = pos;
+            while (pos < text.length() && ",} \t".indexOf(text.charAt(pos)) < 0) {
+                pos++;
+            }
+            String literal = text.substring(start, pos);
+            if (literal.equals("null")) {
+                return null;
+            }
+            if (literal.isEmpty()) {
+                throw new VoyagerException("missing value at column " + (start + 1));
+            }
+            return literal;
+        }
+
+        private String readString() throws VoyagerException {
+            expect('"');
+            StringBuilder sb = new StringBuilder();
+            while (true) {
+                char c = next();
+                if (c == '"') {
+                    return sb.toString();
+                }
+                if (c != '\\') {
+                    sb.append(c);
+                    continue;
+                }
+                char escaped = next();
+                switch (escaped) {
+                    case 'n':
+                        sb.append('\n');
+                        break;
+                    case 'r':
+                        sb.append('\r');
+                        break;
+                    case 't':
+                        sb.append('\t');
+                        break;
+                    case 'b':
+                        sb.append('\b');
+                        break;
+                    case 'f':
+                        sb.append('\f');
+                        break;
+                    case 'u':
+                        if (pos + 4 > text.length()) {
+                            throw new VoyagerException("truncated unicode escape");
+                        }
+                        try {
+                            sb.append((char) Integer.parseInt(text.substring(pos, pos + 4), 16));
+                        } catch (NumberFormatException e) {
+                            throw new VoyagerException("invalid unicode escape at column " + pos);
+                        }
+                        pos += 4;
+                        break;
+                    default:
+                        sb.append(escaped);
+                        break;
+                }
+            }
+        }
+
+        private void expect(char expected) throws VoyagerException {
+            if (next() != expected) {
+                throw new VoyagerException("expected '" + expected + "' at column " + pos);
+            }
+        }
+
+        private char peek() throws VoyagerException {
+            if (pos >= text.length()) {
+                throw new VoyagerException("unexpected end of line");
+            }
+            return text.charAt(pos);
+        }
+
+        private char next() throws VoyagerException {
+            char c = peek();
+            pos++;
+            return c;
+        }
+
+        private void skipWhitespace() {
+            while (pos < text.length() && Character.isWhitespace(text.charAt(pos))) {
+                pos++;
+            }
+        }
+    }
+}
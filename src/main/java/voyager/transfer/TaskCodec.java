@@ -0,0 +1,42 @@
+package voyager.transfer;
+
+import voyager.exception.VoyagerException;
+import voyager.task.Task;
+
+/**
+ * Converts tasks to and from one line of an import/export file.
+ */
+public interface TaskCodec {
+    /**
+     * Returns the line written before the first task, such as a CSV header.
+     *
+     * @return The header line, or null if the format has none.
+     */
+    String header();
+
+    /**
+     * Returns whether a line read from a file is the format's header rather than a task.
+     *
+     * @param line The line.
+     * @return True if the line should be skipped.
+     */
+    boolean isHeader(String line);
+
+    /**
+     * Encodes a task as a single line without a line terminator.
+     *
+     * @param task The task.
+     * @return The encoded line.
+     * @throws VoyagerException If the task cannot be written in this format.
+     */
+    String encode(Task task) throws VoyagerException;
+
+    /**
+     * Decodes and validates a single line.
+     *
+     * @param line The line.
+     * @return The task it describes.
+     * @throws VoyagerException If the line is malformed or describes an invalid task.
+     */
+    Task decode(String line) throws VoyagerException;
+}
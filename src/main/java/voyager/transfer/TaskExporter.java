@@ -0,0 +1,58 @@
+package voyager.transfer;
+
+import voyager.exception.VoyagerException;
+import voyager.task.Task;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+
+/**
+ * Streams tasks to an export file one line at a time, without building the output in memory.
+ * The file is written beside the target and moved into place once complete, so a failed export
+ * leaves any existing file untouched.
+ */
+public class TaskExporter {
+    /**
+     * Writes every task to a file, replacing its contents.
+     *
+     * @param tasks The tasks to export.
+     * @param file  The file to write.
+     * @param codec The codec for the file's format.
+     * @return The size of the written file in bytes.
+     * @throws VoyagerException If a task cannot be written in the file's format.
+     * @throws IOException      If writing fails.
+     */
+    public long exportTo(List<Task> tasks, Path file, TaskCodec codec) throws VoyagerException, IOException {
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try {
+            try (BufferedWriter writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+                String header = codec.header();
+                if (header != null) {
+                    writer.write(header);
+                    writer.newLine();
+                }
+                for (int i = 0; i < tasks.size(); i++) {
+                    writer.write(encode(codec, tasks.get(i), i + 1));
+                    writer.newLine();
+                }
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+        return Files.size(file);
+    }
+
+    private static String encode(TaskCodec codec, Task task, int taskNumber) throws VoyagerException {
+        try {
+            return codec.encode(task);
+        } catch (VoyagerException e) {
+            throw new VoyagerException("OOPS!!! Task " + taskNumber + " cannot be exported: " + e.getMessage() + ".");
+        }
+    }
+}
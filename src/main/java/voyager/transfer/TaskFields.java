@@ -0,0 +1,143 @@
+package voyager.transfer;
+
+import voyager.exception.VoyagerException;
+import voyager.task.Deadline;
+import voyager.task.Event;
+import voyager.task.RecurringTask;
+import voyager.task.Task;
+import voyager.task.ToDo;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Converts tasks to and from the named fields shared by every import/export format.
+ */
+public class TaskFields {
+    public static final String TYPE = "type";
+    public static final String DONE = "done";
+    public static final String DESCRIPTION = "description";
+    public static final String BY = "by";
+    public static final String FROM = "from";
+    public static final String TO = "to";
+    public static final String START = "start";
+    public static final String EVERY = "every";
+    public static final String UNTIL = "until";
+    public static final String DONE_AT = "done_at";
+
+    /** Every field, in the column order used by CSV. New columns go last so older files still line up. */
+    public static final List<String> ALL =
+            List.of(TYPE, DONE, DESCRIPTION, BY, FROM, TO, START, EVERY, UNTIL, DONE_AT);
+
+    /**
+     * Returns the fields of a task. Fields that do not apply to the task's type are left out.
+     *
+     * @param task The task to convert.
+     * @return Field names mapped to values, in {@link #ALL} order.
+     */
+    public static Map<String, String> fromTask(Task task) {
+        Map<String, String> fields = new LinkedHashMap<>();
+        fields.put(TYPE, typeOf(task));
+        fields.put(DONE, String.valueOf(task.isDone()));
+        fields.put(DESCRIPTION, task.getDescription());
+        if (task instanceof Deadline) {
+            fields.put(BY, ((Deadline) task).getBy().toString());
+        } else if (task instanceof Event) {
+            fields.put(FROM, ((Event) task).getFrom());
+            fields.put(TO, ((Event) task).getTo());
+        } else if (task instanceof RecurringTask) {
+            RecurringTask recurring = (RecurringTask) task;
+            fields.put(START, recurring.getStart().toString());
+            fields.put(EVERY, recurring.getFrequency().name().toLowerCase());
+            if (recurring.getUntil() != null) {
+                fields.put(UNTIL, recurring.getUntil().toString());
+            }
+        }
+        if (task.getDoneAt() != null) {
+            fields.put(DONE_AT, task.getDoneAt().toString());
+        }
+        return fields;
+    }
+
+    /**
+     * Validates a row of fields and builds the task it describes.
+     *
+     * @param fields Field names mapped to values. Missing and empty fields are treated alike.
+     * @return The task.
+     * @throws VoyagerException If a required field is missing or a value is invalid.
+     */
+    public static Task toTask(Map<String, String> fields) throws VoyagerException {
+        String description = require(fields, DESCRIPTION);
+        Task task;
+        switch (require(fields, TYPE).toLowerCase()) {
+            case "todo":
+                task = new ToDo(description);
+                break;
+            case "deadline":
+                task = new Deadline(description, parseDate(fields, BY));
+                break;
+            case "event":
+                task = new Event(description, require(fields, FROM), require(fields, TO));
+                break;
+            case "recurring":
+                RecurringTask.Frequency frequency = RecurringTask.Frequency.fromWord(require(fields, EVERY));
+                if (frequency == null) {
+                    throw new VoyagerException("'every' must be week or month");
+                }
+                LocalDate until = isBlank(fields.get(UNTIL)) ? null : parseDate(fields, UNTIL);
+                task = new RecurringTask(description, parseDate(fields, START), frequency, until);
+                break;
+            default:
+                throw new VoyagerException("unknown type '" + fields.get(TYPE) + "'");
+        }
+
+        String done = fields.get(DONE);
+        if (!isBlank(done) && !done.equalsIgnoreCase("true") && !done.equalsIgnoreCase("false")) {
+            throw new VoyagerException("'done' must be true or false");
+        }
+        boolean isDone = "true".equalsIgnoreCase(done);
+        if (!isBlank(fields.get(DONE_AT)) && !isDone) {
+            throw new VoyagerException("'done_at' is only allowed on a done task");
+        }
+        if (isDone) {
+            // Files exported before completion dates were recorded have no 'done_at'; treat those as done today.
+            task.mark(isBlank(fields.get(DONE_AT)) ? LocalDate.now() : parseDate(fields, DONE_AT));
+        }
+        return task;
+    }
+
+    private static String typeOf(Task task) {
+        if (task instanceof Deadline) {
+            return "deadline";
+        } else if (task instanceof Event) {
+            return "event";
+        } else if (task instanceof RecurringTask) {
+            return "recurring";
+        }
+        return "todo";
+    }
+
+    private static String require(Map<String, String> fields, String name) throws VoyagerException {
+        String value = fields.get(name);
+        if (isBlank(value)) {
+            throw new VoyagerException("missing '" + name + "'");
+        }
+        return value;
+    }
+
+    private static LocalDate parseDate(Map<String, String> fields, String name) throws VoyagerException {
+        String value = require(fields, name);
+        try {
+            return LocalDate.parse(value.trim());
+        } catch (DateTimeParseException e) {
+            throw new VoyagerException("'" + name + "' must be a yyyy-mm-dd date");
+        }
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+}
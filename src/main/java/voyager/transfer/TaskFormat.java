@@ -0,0 +1,42 @@
+package voyager.transfer;
+
+/**
+ * The file formats supported by {@code import} and {@code export}, chosen by file extension.
+ */
+public enum TaskFormat {
+    CSV(".csv"),
+    JSON_LINES(".jsonl", ".ndjson");
+
+    private final String[] extensions;
+
+    TaskFormat(String... extensions) {
+        this.extensions = extensions;
+    }
+
+    /**
+     * Returns the format matching a file name's extension.
+     *
+     * @param fileName The file name or path.
+     * @return The format, or null if the extension is not recognised.
+     */
+    public static TaskFormat fromFileName(String fileName) {
+        String lower = fileName.toLowerCase();
+        for (TaskFormat format : values()) {
+            for (String extension : format.extensions) {
+                if (lower.endsWith(extension)) {
+                    return format;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns a codec for this format.
+     *
+     * @return A new codec.
+     */
+    public TaskCodec createCodec() {
+        return this == CSV ? new CsvTaskCodec() : new JsonLinesTaskCodec();
+    }
+}
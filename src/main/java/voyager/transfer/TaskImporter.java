@@ -0,0 +1,140 @@
+package voyager.transfer;
+
+import voyager.exception.VoyagerException;
+import voyager.task.Task;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Streams tasks from an import file into fixed-size batches.
+ * A line is only read once the previous batch has been handed to the sink and persisted, so the
+ * sink's speed throttles reading and memory stays bounded by the batch size, however large the file.
+ */
+public class TaskImporter {
+    /**
+     * Receives each batch of validated tasks.
+     */
+    public interface BatchSink {
+        /**
+         * Inserts and persists one batch.
+         *
+         * @param batch The tasks, in file order.
+         * @throws IOException If persisting the batch fails.
+         */
+        void accept(List<Task> batch) throws IOException;
+    }
+
+    private static final int MAX_REPORTED_ERRORS = 5;
+
+    private final int batchSize;
+
+    /**
+     * Creates an importer.
+     *
+     * @param batchSize Number of tasks inserted and persisted together.
+     */
+    public TaskImporter(int batchSize) {
+        assert batchSize > 0 : "Batch size should be positive";
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Imports every valid line of a file. Invalid lines are skipped and counted.
+     *
+     * @param file  The file to read.
+     * @param codec The codec for the file's format.
+     * @param sink  Receives the batches.
+     * @return A summary of what was imported and rejected.
+     * @throws IOException If reading the file or persisting a batch fails.
+     */
+    public ImportResult importFrom(Path file, TaskCodec codec, BatchSink sink) throws IOException {
+        ImportResult result = new ImportResult();
+        List<Task> batch = new ArrayList<>(batchSize);
+
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank() || (lineNumber == 1 && codec.isHeader(line))) {
+                    continue;
+                }
+
+                try {
+                    batch.add(codec.decode(line));
+                } catch (VoyagerException e) {
+                    result.reject(lineNumber, e.getMessage(), MAX_REPORTED_ERRORS);
+                    continue;
+                }
+
+                if (batch.size() == batchSize) {
+                    flush(batch, sink, result);
+                    batch = new ArrayList<>(batchSize);
+                }
+            }
+        }
+        flush(batch, sink, result);
+        return result;
+    }
+
+    private static void flush(List<Task> batch, BatchSink sink, ImportResult result) throws IOException {
+        if (batch.isEmpty()) {
+            return;
+        }
+        sink.accept(batch);
+        result.addImported(batch.size());
+    }
+
+    /**
+     * Summary of one import.
+     */
+    public static class ImportResult {
+        private long importedCount;
+        private long rejectedCount;
+        private final List<String> errors = new ArrayList<>();
+
+        private void addImported(int count) {
+            importedCount += count;
+        }
+
+        private void reject(int lineNumber, String reason, int maxErrors) {
+            rejectedCount++;
+            if (errors.size() < maxErrors) {
+                errors.add("line " + lineNumber + ": " + reason);
+            }
+        }
+
+        /**
+         * Returns the number of tasks imported.
+         *
+         * @return Imported task count.
+         */
+        public long getImportedCount() {
+            return importedCount;
+        }
+
+        /**
+         * Returns the number of lines skipped as invalid.
+         *
+         * @return Rejected line count.
+         */
+        public long getRejectedCount() {
+            return rejectedCount;
+        }
+
+        /**
+         * Returns the reasons for the first few rejected lines.
+         *
+         * @return Up to five error descriptions.
+         */
+        public List<String> getErrors() {
+            return errors;
+        }
+    }
+}
@@ -1,47 +1,52 @@
 package voyager.ui;
 
-import java.io.IOException;
-import java.util.Collections;
-
-import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
-import javafx.fxml.FXML;
-import javafx.fxml.FXMLLoader;
+import javafx.geometry.Insets;
 import javafx.geometry.Pos;
-import javafx.scene.Node;
 import javafx.scene.control.Label;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.HBox;
+import javafx.scene.layout.Region;
 
 /**
- * A custom control using FXML to represent a dialog box in the chat interface.
+ * A custom control to represent a dialog box in the chat interface.
  * Consists of an {@code ImageView} to represent the speaker's face and a
  * {@code Label} containing text from the speaker.
+ * The node graph is built directly in code, so creating a dialog box does not
+ * re-read or re-parse any FXML for every message.
  */
 public class DialogBox extends HBox {
-    @FXML
-    private Label dialog;
-    @FXML
-    private ImageView displayPicture;
+    private static final double PREF_WIDTH = 400.0;
+    private static final double SPACING = 10.0;
+    private static final double PICTURE_SIZE = 50.0;
+    private static final Insets PADDING = new Insets(15.0, 5.0, 15.0, 5.0);
+
+    private final Label dialog;
+    private final ImageView displayPicture;
 
     /**
      * Private constructor for creating a DialogBox.
-     * * @param text The message to be displayed in the box.
+     *
+     * @param text The message to be displayed in the box.
      * @param img The avatar image of the speaker.
      */
     private DialogBox(String text, Image img) {
-        try {
-            FXMLLoader fxmlLoader = new FXMLLoader(MainWindow.class.getResource("/view/DialogBox.fxml"));
-            fxmlLoader.setController(this);
-            fxmlLoader.setRoot(this);
-            fxmlLoader.load();
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
+        dialog = new Label(text);
+        dialog.setWrapText(true);
+        dialog.setMinHeight(Region.USE_PREF_SIZE);
+
+        displayPicture = new ImageView(img);
+        displayPicture.setFitHeight(PICTURE_SIZE);
+        displayPicture.setFitWidth(PICTURE_SIZE);
+        displayPicture.setPickOnBounds(true);
+        displayPicture.setPreserveRatio(true);
 
-        dialog.setText(text);
-        displayPicture.setImage(img);
+        setAlignment(Pos.TOP_RIGHT);
+        setMaxSize(Double.MAX_VALUE, Double.MAX_VALUE);
+        setPrefWidth(PREF_WIDTH);
+        setSpacing(SPACING);
+        setPadding(PADDING);
+        getChildren().setAll(dialog, displayPicture);
     }
 
     /**
@@ -49,15 +54,14 @@ public class DialogBox extends HBox {
      * Used specifically for messages originating from the chatbot.
      */
     private void flip() {
-        ObservableList<Node> tmp = FXCollections.observableArrayList(this.getChildren());
-        Collections.reverse(tmp);
-        getChildren().setAll(tmp);
+        getChildren().setAll(displayPicture, dialog);
         setAlignment(Pos.TOP_LEFT);
     }
 
     /**
      * Factory method to create a dialog box for the user.
-     * * @param text The user's input message.
+     *
+     * @param text The user's input message.
      * @param img The user's avatar image.
      * @return A {@code DialogBox} containing the user's message.
      */
@@ -68,7 +72,8 @@ public class DialogBox extends HBox {
     /**
      * Factory method to create a dialog box for Voyager.
      * The resulting box is flipped so the avatar appears on the left.
-     * * @param text Voyager's response message.
+     *
+     * @param text Voyager's response message.
      * @param img Voyager's avatar image.
      * @return A flipped {@code DialogBox} containing Voyager's message.
      */
@@ -77,4 +82,4 @@ public class DialogBox extends HBox {
         db.flip();
         return db;
     }
-}
\ No newline at end of file
+}
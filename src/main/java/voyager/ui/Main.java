@@ -1,19 +1,37 @@
 package voyager.ui;
 
+import javafx.animation.AnimationTimer;
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Scene;
 import javafx.scene.layout.AnchorPane;
 import javafx.stage.Stage;
 import voyager.Voyager;
+import voyager.reminder.ReminderScheduler;
+import voyager.task.Task;
 
+import java.io.File;
 import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
 
 /**
  * Application entry point for the JavaFX GUI.
+ * The window is shown before the saved tasks are read, and the data file is loaded on a
+ * background thread so that a large task list does not delay the first frame.
  */
 public class Main extends Application {
-    private Voyager voyager = new Voyager();
+    private static final long STATS_DUMP_INTERVAL_SECONDS =
+            Long.getLong("voyager.stats.dumpSeconds", 60);
+    private static final Duration REMINDER_LEAD_TIME =
+            Duration.ofHours(Long.getLong("voyager.reminder.leadHours", 24));
+    private static final Duration REMINDER_TICK = Duration.ofMinutes(1);
+    private static final Integer REPLICATION_PORT = Integer.getInteger("voyager.replication.port");
+
+    private final Voyager voyager = new Voyager();
 
     /**
      * Initializes the main stage and sets up the layout and event handlers.
@@ -27,10 +45,109 @@ public class Main extends Application {
             AnchorPane ap = fxmlLoader.load();
             Scene scene = new Scene(ap);
             stage.setScene(scene);
-            fxmlLoader.<MainWindow>getController().setVoyager(voyager);
+            MainWindow mainWindow = fxmlLoader.<MainWindow>getController();
+            mainWindow.setVoyager(voyager);
+            reportFirstFrame();
+            startReminders(mainWindow);
             stage.show();
+            loadTasksInBackground(mainWindow);
+            voyager.startStatsDump(STATS_DUMP_INTERVAL_SECONDS);
+            startTraceRecording();
         } catch (IOException e) {
             e.printStackTrace();
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Reads the saved tasks on a background thread, forwarding progress to the window and
+     * handing the loaded tasks back to the JavaFX thread once reading completes.
+     * If reading fails, the failure is shown in the chat and the window still becomes usable.
+     *
+     * @param mainWindow The controller that queues commands until the tasks are installed.
+     */
+    private void loadTasksInBackground(MainWindow mainWindow) {
+        Thread loader = new Thread(() -> {
+            List<Task> loaded;
+            String warning;
+            try {
+                loaded = voyager.readSavedTasks((bytesRead, totalBytes) ->
+                        Platform.runLater(() -> mainWindow.showLoadProgress(bytesRead, totalBytes)));
+                warning = voyager.getLoadWarning();
+            } catch (RuntimeException e) {
+                loaded = List.of();
+                warning = "OOPS!!! I could not load your saved tasks: " + e;
+            }
+
+            List<Task> installed = loaded;
+            String loadWarning = warning;
+            Platform.runLater(() -> {
+                voyager.installTasks(installed);
+                startReplication();
+                if (loadWarning != null) {
+                    mainWindow.showMessage(loadWarning);
+                }
+                mainWindow.onTasksLoaded();
+                System.out.println("Startup: " + installed.size() + " tasks loaded after "
+                        + getUptimeMillis() + " ms");
+            });
+        }, "voyager-loader");
+        loader.setDaemon(true);
+        loader.start();
+    }
+
+    /**
+     * Subscribes a reminder scheduler to the task list, before any tasks are loaded,
+     * and shows each reminder in the chat as it falls due.
+     *
+     * @param mainWindow The controller that displays reminders.
+     */
+    private void startReminders(MainWindow mainWindow) {
+        ReminderScheduler reminders = new ReminderScheduler(Clock.systemDefaultZone(),
+                REMINDER_LEAD_TIME, REMINDER_TICK,
+                deadline -> Platform.runLater(() -> mainWindow.showReminder(deadline)));
+        voyager.addTaskListListener(reminders);
+        reminders.start();
+    }
+
+    /**
+     * Ships changes to followers on the port named by {@code -Dvoyager.replication.port}, if set.
+     */
+    private void startReplication() {
+        if (REPLICATION_PORT == null) {
+            return;
+        }
+        try {
+            voyager.startReplication(REPLICATION_PORT);
+            System.out.println("Replication: listening for followers on port " + REPLICATION_PORT);
+        } catch (IOException e) {
+            System.out.println("Error starting replication: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Records the session to the trace file named by {@code -Dvoyager.trace}, if set.
+     */
+    private void startTraceRecording() throws IOException {
+        String traceFile = System.getProperty("voyager.trace");
+        if (traceFile != null) {
+            voyager.startTraceRecording(new File(traceFile));
+        }
+    }
+
+    /**
+     * Prints the time from JVM start to the first rendered pulse of the window.
+     */
+    private void reportFirstFrame() {
+        new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                stop();
+                System.out.println("Startup: first frame after " + getUptimeMillis() + " ms");
+            }
+        }.start();
+    }
+
+    private static long getUptimeMillis() {
+        return ManagementFactory.getRuntimeMXBean().getUptime();
+    }
+}
@@ -4,6 +4,7 @@ import javafx.animation.PauseTransition;
 import javafx.application.Platform;
 import javafx.fxml.FXML;
 import javafx.scene.control.Button;
+import javafx.scene.control.ListView;
 import javafx.scene.control.ScrollPane;
 import javafx.scene.control.TextField;
 import javafx.scene.image.Image;
@@ -11,11 +12,15 @@ import javafx.scene.layout.AnchorPane;
 import javafx.scene.layout.VBox;
 import javafx.util.Duration;
 import voyager.Voyager;
+import voyager.task.Deadline;
+
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Controller for the main GUI window.
  * Provides the interface for the user to interact with Voyager, including
- * the scrollable dialog container, text input field, and send button.
+ * the scrollable dialog container, text input field, send button and live task panel.
  */
 public class MainWindow extends AnchorPane {
     @FXML
@@ -26,8 +31,12 @@ public class MainWindow extends AnchorPane {
     private TextField userInput;
     @FXML
     private Button sendButton;
+    @FXML
+    private ListView<String> taskPanel;
 
     private Voyager voyager;
+    private final Ui ui = new Ui();
+    private final List<String> pendingInputs = new ArrayList<>();
 
     private final Image USER_IMAGE = new Image(this.getClass().getResourceAsStream("/images/User.png"),
             50, 50, true, true);
@@ -44,11 +53,13 @@ public class MainWindow extends AnchorPane {
     }
 
     /**
-     * Injects the Voyager instance and displays the initial welcome message.
+     * Injects the Voyager instance, subscribes the task panel to its task list
+     * and displays the initial welcome message.
      * * @param v The Voyager logic instance to be used by the GUI.
      */
     public void setVoyager(Voyager v) {
         voyager = v;
+        voyager.addTaskListListener(new TaskPanel(taskPanel));
 
         String welcomeMessage = voyager.getResponse("welcome_trigger");
         dialogContainer.getChildren().add(
@@ -57,25 +68,83 @@ public class MainWindow extends AnchorPane {
     }
 
     /**
-     * Creates two dialog boxes, one echoing user input and the other containing Voyager's reply.
-     * Clears the user input after processing. If the input is "bye", the application
-     * will exit after a short delay.
+     * Shows a reminder for an approaching deadline as a message from Voyager.
+     *
+     * @param deadline The deadline that is due soon.
+     */
+    public void showReminder(Deadline deadline) {
+        dialogContainer.getChildren().add(DialogBox.getVoyagerDialog(ui.showReminder(deadline), VOYAGER_IMAGE));
+    }
+
+    /**
+     * Shows a message from Voyager that is not the reply to a command.
+     *
+     * @param message The message to show.
+     */
+    public void showMessage(String message) {
+        dialogContainer.getChildren().add(DialogBox.getVoyagerDialog(message, VOYAGER_IMAGE));
+    }
+
+    /**
+     * Shows how far the background task loading has progressed in the input field.
+     *
+     * @param bytesRead  Bytes of the data file read so far.
+     * @param totalBytes Size of the data file in bytes.
+     */
+    public void showLoadProgress(long bytesRead, long totalBytes) {
+        if (voyager.isLoaded() || totalBytes <= 0) {
+            return;
+        }
+        userInput.setPromptText("Loading tasks... " + (bytesRead * 100 / totalBytes) + "%");
+    }
+
+    /**
+     * Answers every command that was typed while the tasks were still loading, in order.
+     */
+    public void onTasksLoaded() {
+        userInput.setPromptText("");
+        for (String input : pendingInputs) {
+            respond(input);
+        }
+        pendingInputs.clear();
+    }
+
+    /**
+     * Echoes the user input in a dialog box and replies with Voyager's response.
+     * Commands typed before the saved tasks have finished loading are queued and
+     * answered once loading completes. Clears the user input after processing.
      */
     @FXML
     private void handleUserInput() {
         String input = userInput.getText();
-        String response = voyager.getResponse(input);
-
-        dialogContainer.getChildren().addAll(
-                DialogBox.getUserDialog(input, USER_IMAGE),
-                DialogBox.getVoyagerDialog(response, VOYAGER_IMAGE)
-        );
         userInput.clear();
+        dialogContainer.getChildren().add(DialogBox.getUserDialog(input, USER_IMAGE));
+
+        if (!voyager.isLoaded() && !isExitCommand(input)) {
+            pendingInputs.add(input);
+            return;
+        }
+        respond(input);
+    }
+
+    /**
+     * Adds a dialog box containing Voyager's reply to the input. If the input is "bye",
+     * the application will exit after a short delay.
+     *
+     * @param input The command to answer.
+     */
+    private void respond(String input) {
+        String response = voyager.getResponse(input);
+        dialogContainer.getChildren().add(DialogBox.getVoyagerDialog(response, VOYAGER_IMAGE));
 
-        if (input.equalsIgnoreCase("bye")) {
+        if (isExitCommand(input)) {
             PauseTransition delay = new PauseTransition(Duration.seconds(1.5));
             delay.setOnFinished(event -> Platform.exit());
             delay.play();
         }
     }
+
+    private boolean isExitCommand(String input) {
+        return input.equalsIgnoreCase("bye");
+    }
 }
\ No newline at end of file
@@ -0,0 +1,72 @@
+package voyager.ui;
+
+import javafx.collections.ObservableList;
+import javafx.scene.control.ListCell;
+import javafx.scene.control.ListView;
+import voyager.task.Task;
+import voyager.task.TaskListListener;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Live view of the task list shown beside the chat.
+ * Applies each change published by the task list as a delta on the displayed rows,
+ * so keeping the panel current costs O(changes) rather than re-rendering every task.
+ */
+public class TaskPanel implements TaskListListener {
+    private final ObservableList<String> rows;
+
+    /**
+     * Creates a panel that renders into the given list view.
+     *
+     * @param view The list view that displays one row per task.
+     */
+    public TaskPanel(ListView<String> view) {
+        this.rows = view.getItems();
+        view.setCellFactory(list -> new NumberedCell());
+    }
+
+    @Override
+    public void onAdded(int fromIndex, List<Task> added) {
+        List<String> lines = new ArrayList<>(added.size());
+        for (Task task : added) {
+            lines.add(task.toString());
+        }
+        rows.addAll(fromIndex, lines);
+    }
+
+    @Override
+    public void onRemoved(int index, Task removed) {
+        rows.remove(index);
+    }
+
+    @Override
+    public void onUpdated(int index, Task updated) {
+        rows.set(index, updated.toString());
+    }
+
+    @Override
+    public void onReordered(int[] permutation) {
+        String[] reordered = new String[permutation.length];
+        for (int i = 0; i < permutation.length; i++) {
+            reordered[i] = rows.get(permutation[i]);
+        }
+        rows.setAll(reordered);
+    }
+
+    /**
+     * A list cell that prefixes each row with its 1-based task number, matching the {@code list} output.
+     */
+    private static class NumberedCell extends ListCell<String> {
+        @Override
+        protected void updateItem(String line, boolean isEmpty) {
+            super.updateItem(line, isEmpty);
+            if (isEmpty || line == null) {
+                setText(null);
+                return;
+            }
+            setText((getIndex() + 1) + "." + line);
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package voyager.ui;
 
+import voyager.search.SavedSearch;
+import voyager.task.Occurrence;
 import voyager.task.Task;
 import java.util.List;
 
@@ -8,6 +10,9 @@ import java.util.List;
  * In GUI mode, these methods return Strings to be displayed in the chat interface.
  */
 public class Ui {
+    private static final int NUMBER_PREFIX_ESTIMATE = 9;
+    private static final int MAX_SKIPPED_LINES_SHOWN = 10;
+
     /**
      * Returns the opening welcome message.
      */
@@ -70,6 +75,13 @@ public class Ui {
         return "OK, I've marked this task as not done yet:\n  " + task;
     }
 
+    /**
+     * Reminds the user of a deadline that is coming up.
+     */
+    public String showReminder(Task task) {
+        return "Reminder! This task is due soon:\n  " + task;
+    }
+
     /**
      * Returns the entire list of tasks as a single formatted String.
      */
@@ -88,8 +100,132 @@ public class Ui {
                 "No matching tasks found in your list.");
     }
 
+    /**
+     * Returns the matching tasks in the list followed by the matching archived tasks.
+     * Archived tasks are not numbered, as they cannot be referred to by commands.
+     */
+    public String showFoundTasks(List<Task> tasks, List<Task> archivedTasks) {
+        if (archivedTasks.isEmpty()) {
+            return showFoundTasks(tasks);
+        }
+
+        StringBuilder sb = new StringBuilder();
+        if (!tasks.isEmpty()) {
+            sb.append(showFoundTasks(tasks)).append('\n');
+        }
+        sb.append("Here are the matching archived tasks:");
+        for (Task task : archivedTasks) {
+            sb.append("\n  ").append(task);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Returns how many tasks were moved to the archive.
+     */
+    public String showArchived(int count, int days, int size) {
+        if (count == 0) {
+            return "No tasks have been done for " + days + " days or more.";
+        }
+        return "Archived " + count + " tasks done " + days + " or more days ago.\n"
+                + "Now you have " + size + " tasks in the list.";
+    }
+
+    /**
+     * Confirms that a search was saved and returns its current results.
+     */
+    public String showSavedSearch(SavedSearch search, List<Task> results) {
+        String saved = "Saved the search '" + search.getName() + "' for \"" + search.getKeyword()
+                + "\". Recall it with: find @" + search.getName();
+        return saved + "\n" + showFoundTasks(results);
+    }
+
+    /**
+     * Returns the saved searches with the number of tasks each currently matches.
+     */
+    public String showSavedSearches(List<SavedSearch> searches) {
+        if (searches.isEmpty()) {
+            return "You have no saved searches.";
+        }
+
+        StringBuilder sb = new StringBuilder("Here are your saved searches:");
+        for (SavedSearch search : searches) {
+            sb.append("\n@").append(search.getName()).append(": \"").append(search.getKeyword())
+                    .append("\" (").append(search.getMatchCount()).append(" matches)");
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Returns the tasks falling within a date range, one line per occurrence.
+     */
+    public String showAgenda(List<Occurrence> occurrences) {
+        if (occurrences.isEmpty()) {
+            return "Nothing is due in that period.";
+        }
+
+        StringBuilder sb = new StringBuilder("Here is your agenda:");
+        for (Occurrence occurrence : occurrences) {
+            sb.append('\n').append(occurrence);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Returns the outcome of an import, listing the first few rejected lines.
+     */
+    public String showImported(long imported, long rejected, List<String> errors, int size) {
+        StringBuilder sb = new StringBuilder("Imported ").append(imported).append(" tasks.");
+        if (rejected > 0) {
+            sb.append("\nSkipped ").append(rejected).append(" invalid lines:");
+            for (String error : errors) {
+                sb.append("\n  ").append(error);
+            }
+        }
+        return sb.append("\nNow you have ").append(size).append(" tasks in the list.").toString();
+    }
+
+    /**
+     * Warns that some lines of the data file could not be read, listing the first few.
+     */
+    public String showSkippedLines(List<Integer> lineNumbers, String backupPath) {
+        StringBuilder sb = new StringBuilder("OOPS!!! I skipped ").append(lineNumbers.size())
+                .append(lineNumbers.size() == 1 ? " unreadable line" : " unreadable lines")
+                .append(" in your saved tasks (");
+        int shown = Math.min(lineNumbers.size(), MAX_SKIPPED_LINES_SHOWN);
+        for (int i = 0; i < shown; i++) {
+            sb.append(i == 0 ? "line " : ", ").append(lineNumbers.get(i));
+        }
+        if (shown < lineNumbers.size()) {
+            sb.append(", ...");
+        }
+        return sb.append(").\nThe original file was copied to ").append(backupPath).append('.').toString();
+    }
+
+    /**
+     * Confirms that the task list was exported.
+     */
+    public String showExported(int count, String path) {
+        return "Exported " + count + " tasks to " + path + ".";
+    }
+
+    /**
+     * Confirms that a command was undone.
+     */
+    public String showUndone(String command, int size) {
+        return "Undid '" + command + "'.\nNow you have " + size + " tasks in the list.";
+    }
+
+    /**
+     * Confirms that an undone command was applied again.
+     */
+    public String showRedone(String command, int size) {
+        return "Redid '" + command + "'.\nNow you have " + size + " tasks in the list.";
+    }
+
     /**
      * Formats a list of tasks into a numbered string with a specific header.
+     * Each task's display line is cached by the task itself, so this is mostly buffer copies.
      * * @param tasks The list of tasks to display.
      * @param header The introductory text (e.g., "Here are the tasks...").
      * @param emptyMessage The message to show if the list is empty.
@@ -100,11 +236,17 @@ public class Ui {
             return emptyMessage;
         }
 
-        StringBuilder sb = new StringBuilder(header + "\n");
+        int capacity = header.length() + 1;
+        for (Task task : tasks) {
+            capacity += task.toString().length() + NUMBER_PREFIX_ESTIMATE;
+        }
+
+        StringBuilder sb = new StringBuilder(capacity);
+        sb.append(header).append('\n');
         for (int i = 0; i < tasks.size(); i++) {
-            sb.append((i + 1)).append(".").append(tasks.get(i));
+            sb.append(i + 1).append('.').append(tasks.get(i).toString());
             if (i < tasks.size() - 1) {
-                sb.append("\n");
+                sb.append('\n');
             }
         }
         return sb.toString();
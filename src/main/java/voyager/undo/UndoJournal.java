@@ -0,0 +1,399 @@
+package voyager.undo;
+
+import voyager.exception.VoyagerException;
+import voyager.task.Task;
+import voyager.task.TaskList;
+import voyager.task.TaskListListener;
+
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * A bounded journal of the changes made by each command, used to undo and redo them.
+ *
+ * <p>The journal listens to the task list and, while a command is open between {@link #begin} and
+ * {@link #commit}, records each change together with what is needed to reverse it: the position and
+ * task of an insert or removal, the old status of a marked task, or the permutation of a sort.
+ * Undoing replays the inverses through the task list, so undo and redo cost the size of the change
+ * and every other listener sees them as ordinary changes.
+ *
+ * <p>A change made outside a command cannot be reversed reliably, so it clears the journal.
+ */
+public class UndoJournal implements TaskListListener {
+    private final TaskList taskList;
+    private final int limit;
+    private final Deque<Entry> undoStack = new ArrayDeque<>();
+    private final Deque<Entry> redoStack = new ArrayDeque<>();
+
+    private Entry current;
+    private boolean isReplaying;
+    private int pendingIndex = -1;
+    private Task pendingTask;
+    private boolean pendingDone;
+    private LocalDate pendingDoneAt;
+
+    /**
+     * Creates a journal for a task list and registers it as a listener.
+     *
+     * @param taskList The list whose changes are journaled.
+     * @param limit    Maximum number of commands that can be undone.
+     */
+    public UndoJournal(TaskList taskList, int limit) {
+        assert limit > 0 : "Undo limit should be positive";
+        this.taskList = taskList;
+        this.limit = limit;
+        taskList.addListener(this);
+    }
+
+    /**
+     * Starts recording the changes made by a command.
+     *
+     * @param command The command word, shown when the command is undone or redone.
+     */
+    public void begin(String command) {
+        current = new Entry(command);
+    }
+
+    /**
+     * Stops recording. If the command changed the list, it becomes the newest undoable command and
+     * anything that was undone before it can no longer be redone.
+     */
+    public void commit() {
+        Entry entry = current;
+        current = null;
+        if (entry == null || entry.changes.isEmpty()) {
+            return;
+        }
+        undoStack.push(entry);
+        if (undoStack.size() > limit) {
+            undoStack.removeLast();
+        }
+        redoStack.clear();
+    }
+
+    /**
+     * Forgets every recorded command, including the changes recorded so far by the open one,
+     * so that nothing done before or during the current command can be undone.
+     */
+    public void clear() {
+        if (current != null) {
+            current.changes.clear();
+        }
+        undoStack.clear();
+        redoStack.clear();
+    }
+
+    /**
+     * Reverses the newest undoable command.
+     *
+     * @return The command word that was undone, or null if there is nothing to undo.
+     * @throws VoyagerException If the list no longer matches the journal.
+     */
+    public String undo() throws VoyagerException {
+        Entry entry = undoStack.poll();
+        if (entry == null) {
+            return null;
+        }
+        List<Change> steps = new ArrayList<>(entry.changes);
+        Collections.reverse(steps);
+        replay(steps, true);
+        redoStack.push(entry);
+        return entry.command;
+    }
+
+    /**
+     * Applies the most recently undone command again.
+     *
+     * @return The command word that was redone, or null if there is nothing to redo.
+     * @throws VoyagerException If the list no longer matches the journal.
+     */
+    public String redo() throws VoyagerException {
+        Entry entry = redoStack.poll();
+        if (entry == null) {
+            return null;
+        }
+        replay(entry.changes, false);
+        undoStack.push(entry);
+        return entry.command;
+    }
+
+    /**
+     * Applies the steps in order. If one fails, the steps already applied are reversed, so the
+     * list is either fully changed or left exactly as it was.
+     *
+     * @param steps  The changes, in the order they are applied.
+     * @param isUndo Whether each change is undone rather than redone.
+     * @throws VoyagerException If a change no longer fits the list.
+     */
+    private void replay(List<Change> steps, boolean isUndo) throws VoyagerException {
+        isReplaying = true;
+        int applied = 0;
+        try {
+            for (Change step : steps) {
+                apply(step, isUndo);
+                applied++;
+            }
+        } catch (VoyagerException | RuntimeException e) {
+            for (int i = applied - 1; i >= 0; i--) {
+                apply(steps.get(i), !isUndo);
+            }
+            clear();
+            throw new VoyagerException("OOPS!!! The task list has changed too much to undo that.");
+        } finally {
+            isReplaying = false;
+        }
+    }
+
+    private void apply(Change change, boolean isUndo) throws VoyagerException {
+        if (isUndo) {
+            change.undo(taskList);
+        } else {
+            change.redo(taskList);
+        }
+    }
+
+    /**
+     * Returns the number of commands that can be undone.
+     *
+     * @return Undo depth.
+     */
+    public int getUndoCount() {
+        return undoStack.size();
+    }
+
+    /**
+     * Returns the number of commands that can be redone.
+     *
+     * @return Redo depth.
+     */
+    public int getRedoCount() {
+        return redoStack.size();
+    }
+
+    @Override
+    public void onAdded(int fromIndex, List<Task> added) {
+        if (shouldRecord()) {
+            current.changes.add(new Added(fromIndex, new ArrayList<>(added)));
+        }
+    }
+
+    @Override
+    public void onRemoved(int index, Task removed) {
+        if (shouldRecord()) {
+            current.changes.add(new Removed(index, removed));
+        }
+    }
+
+    @Override
+    public void onUpdating(int index, Task task) {
+        pendingIndex = index;
+        pendingTask = task;
+        pendingDone = task.isDone();
+        pendingDoneAt = task.getDoneAt();
+    }
+
+    @Override
+    public void onUpdated(int index, Task updated) {
+        if (shouldRecord()) {
+            assert pendingIndex == index : "onUpdating should precede onUpdated for the same task";
+            if (pendingTask == updated) {
+                current.changes.add(new StatusChanged(index, pendingDone, pendingDoneAt,
+                        updated.isDone(), updated.getDoneAt()));
+            } else {
+                current.changes.add(new Replaced(index, pendingTask, updated));
+            }
+        }
+        pendingIndex = -1;
+        pendingTask = null;
+    }
+
+    @Override
+    public void onReordered(int[] permutation) {
+        if (shouldRecord()) {
+            current.changes.add(new Reordered(permutation));
+        }
+    }
+
+    private boolean shouldRecord() {
+        if (isReplaying) {
+            return false;
+        }
+        if (current == null) {
+            clear();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * The changes made by one command.
+     */
+    private static class Entry {
+        private final String command;
+        private final List<Change> changes = new ArrayList<>();
+
+        Entry(String command) {
+            this.command = command;
+        }
+    }
+
+    /**
+     * One recorded change and its inverse. Each direction either applies completely or throws
+     * before touching the list.
+     */
+    private interface Change {
+        void undo(TaskList taskList) throws VoyagerException;
+
+        void redo(TaskList taskList) throws VoyagerException;
+    }
+
+    private static class Added implements Change {
+        private final int fromIndex;
+        private final List<Task> tasks;
+
+        Added(int fromIndex, List<Task> tasks) {
+            this.fromIndex = fromIndex;
+            this.tasks = tasks;
+        }
+
+        @Override
+        public void undo(TaskList taskList) throws VoyagerException {
+            List<Task> current = taskList.getAll();
+            if (fromIndex + tasks.size() > current.size()) {
+                throw new VoyagerException("OOPS!!! The added tasks are no longer in the list.");
+            }
+            for (int i = 0; i < tasks.size(); i++) {
+                if (current.get(fromIndex + i) != tasks.get(i)) {
+                    throw new VoyagerException("OOPS!!! The added tasks are no longer in the list.");
+                }
+            }
+            for (int i = tasks.size() - 1; i >= 0; i--) {
+                taskList.remove(fromIndex + i);
+            }
+        }
+
+        @Override
+        public void redo(TaskList taskList) throws VoyagerException {
+            if (fromIndex > taskList.size()) {
+                throw new VoyagerException("OOPS!!! The tasks can no longer be added back.");
+            }
+            if (fromIndex == taskList.size()) {
+                taskList.addAll(tasks);
+                return;
+            }
+            for (int i = 0; i < tasks.size(); i++) {
+                taskList.insert(fromIndex + i, tasks.get(i));
+            }
+        }
+    }
+
+    private static class Removed implements Change {
+        private final int index;
+        private final Task task;
+
+        Removed(int index, Task task) {
+            this.index = index;
+            this.task = task;
+        }
+
+        @Override
+        public void undo(TaskList taskList) {
+            taskList.insert(index, task);
+        }
+
+        @Override
+        public void redo(TaskList taskList) throws VoyagerException {
+            taskList.remove(index);
+        }
+    }
+
+    private static class StatusChanged implements Change {
+        private final int index;
+        private final boolean wasDone;
+        private final LocalDate doneAtBefore;
+        private final boolean isDone;
+        private final LocalDate doneAtAfter;
+
+        StatusChanged(int index, boolean wasDone, LocalDate doneAtBefore, boolean isDone, LocalDate doneAtAfter) {
+            this.index = index;
+            this.wasDone = wasDone;
+            this.doneAtBefore = doneAtBefore;
+            this.isDone = isDone;
+            this.doneAtAfter = doneAtAfter;
+        }
+
+        @Override
+        public void undo(TaskList taskList) throws VoyagerException {
+            restore(taskList, wasDone, doneAtBefore);
+        }
+
+        @Override
+        public void redo(TaskList taskList) throws VoyagerException {
+            restore(taskList, isDone, doneAtAfter);
+        }
+
+        private void restore(TaskList taskList, boolean done, LocalDate doneAt) throws VoyagerException {
+            if (done) {
+                taskList.mark(index, doneAt);
+            } else {
+                taskList.unmark(index);
+            }
+        }
+    }
+
+    private static class Replaced implements Change {
+        private final int index;
+        private final Task before;
+        private final Task after;
+
+        Replaced(int index, Task before, Task after) {
+            this.index = index;
+            this.before = before;
+            this.after = after;
+        }
+
+        @Override
+        public void undo(TaskList taskList) throws VoyagerException {
+            taskList.set(index, before);
+        }
+
+        @Override
+        public void redo(TaskList taskList) throws VoyagerException {
+            taskList.set(index, after);
+        }
+    }
+
+    private static class Reordered implements Change {
+        private final int[] permutation;
+
+        Reordered(int[] permutation) {
+            this.permutation = permutation;
+        }
+
+        @Override
+        public void undo(TaskList taskList) throws VoyagerException {
+            checkSize(taskList);
+            int[] inverse = new int[permutation.length];
+            for (int i = 0; i < permutation.length; i++) {
+                inverse[permutation[i]] = i;
+            }
+            taskList.reorder(inverse);
+        }
+
+        @Override
+        public void redo(TaskList taskList) throws VoyagerException {
+            checkSize(taskList);
+            taskList.reorder(permutation);
+        }
+
+        private void checkSize(TaskList taskList) throws VoyagerException {
+            if (permutation.length != taskList.size()) {
+                throw new VoyagerException("OOPS!!! The sorted tasks are no longer all in the list.");
+            }
+        }
+    }
+}
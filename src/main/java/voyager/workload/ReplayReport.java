@@ -0,0 +1,71 @@
+package voyager.workload;
+
+import voyager.metrics.LatencyHistogram;
+
+/**
+ * Summary of one trace replay.
+ */
+public class ReplayReport {
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+    private static final long NANOS_PER_MICRO = 1000;
+
+    private final int commandCount;
+    private final long elapsedNanos;
+    private final LatencyHistogram latencies;
+    private final long finalFileSize;
+
+    /**
+     * Creates a report.
+     *
+     * @param commandCount  Number of commands replayed.
+     * @param elapsedNanos  Wall-clock time of the whole replay.
+     * @param latencies     Latency of every command.
+     * @param finalFileSize Size of the data file after the replay.
+     */
+    public ReplayReport(int commandCount, long elapsedNanos, LatencyHistogram latencies, long finalFileSize) {
+        this.commandCount = commandCount;
+        this.elapsedNanos = elapsedNanos;
+        this.latencies = latencies;
+        this.finalFileSize = finalFileSize;
+    }
+
+    /**
+     * Returns the achieved throughput.
+     *
+     * @return Commands per second.
+     */
+    public double getThroughput() {
+        return elapsedNanos == 0 ? 0 : commandCount * NANOS_PER_SECOND / elapsedNanos;
+    }
+
+    /**
+     * Returns the latency histogram of the replayed commands.
+     *
+     * @return Latencies in nanoseconds.
+     */
+    public LatencyHistogram getLatencies() {
+        return latencies;
+    }
+
+    /**
+     * Returns the size of the data file after the replay.
+     *
+     * @return File size in bytes.
+     */
+    public long getFinalFileSize() {
+        return finalFileSize;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Commands: %d%n", commandCount)
+                + String.format("Elapsed: %.3f s%n", elapsedNanos / NANOS_PER_SECOND)
+                + String.format("Throughput: %.1f commands/s%n", getThroughput())
+                + String.format("Latency (us): p50=%d p90=%d p99=%d max=%d%n",
+                        latencies.getValueAtPercentile(50) / NANOS_PER_MICRO,
+                        latencies.getValueAtPercentile(90) / NANOS_PER_MICRO,
+                        latencies.getValueAtPercentile(99) / NANOS_PER_MICRO,
+                        latencies.getMax() / NANOS_PER_MICRO)
+                + String.format("Final file size: %d bytes", finalFileSize);
+    }
+}
@@ -0,0 +1,149 @@
+package voyager.workload;
+
+import voyager.task.Deadline;
+import voyager.task.Event;
+import voyager.task.Task;
+import voyager.task.ToDo;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Generates reproducible synthetic tasks, descriptions and dates.
+ * The same seed always produces the same values, so benchmark and workload results are
+ * comparable between runs.
+ */
+public class TaskGenerator {
+    /**
+     * How generated dates are spread out.
+     */
+    public enum DateDistribution {
+        /** Dates spread evenly over three years. */
+        UNIFORM,
+        /** Most dates fall within the next few weeks, with a long tail into the future. */
+        NEAR_TERM
+    }
+
+    private static final String[] WORDS = {
+        "read", "book", "submit", "report", "project", "meeting", "call", "mom", "buy", "groceries",
+        "review", "pull", "request", "plan", "trip", "pay", "rent", "gym", "lecture", "notes",
+    };
+    private static final LocalDate FIRST_DATE = LocalDate.of(2024, 1, 1);
+    private static final int DATE_RANGE_DAYS = 3 * 365;
+    private static final double NEAR_TERM_MEAN_DAYS = 14.0;
+
+    private final Random random;
+    private final DateDistribution dates;
+
+    /**
+     * Creates a generator with uniformly distributed dates.
+     *
+     * @param seed Seed for the random source.
+     */
+    public TaskGenerator(long seed) {
+        this(seed, DateDistribution.UNIFORM);
+    }
+
+    /**
+     * Creates a generator.
+     *
+     * @param seed  Seed for the random source.
+     * @param dates How deadline dates are distributed.
+     */
+    public TaskGenerator(long seed, DateDistribution dates) {
+        this.random = new Random(seed);
+        this.dates = dates;
+    }
+
+    /**
+     * Generates a mix of todos, deadlines and events, roughly a third of which are done.
+     *
+     * @param count Number of tasks to generate.
+     * @return The generated tasks.
+     */
+    public List<Task> generate(int count) {
+        List<Task> tasks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            tasks.add(nextTask());
+        }
+        return tasks;
+    }
+
+    /**
+     * Returns a random word from the vocabulary used for descriptions.
+     *
+     * @return A keyword that appears in some generated descriptions.
+     */
+    public String nextWord() {
+        return WORDS[random.nextInt(WORDS.length)];
+    }
+
+    /**
+     * Returns a description of two to five random words.
+     *
+     * @return A task description.
+     */
+    public String nextDescription() {
+        int length = 2 + random.nextInt(4);
+        StringBuilder sb = new StringBuilder(nextWord());
+        for (int i = 1; i < length; i++) {
+            sb.append(' ').append(nextWord());
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Returns a date drawn from this generator's distribution.
+     *
+     * @return A deadline date.
+     */
+    public LocalDate nextDate() {
+        if (dates == DateDistribution.NEAR_TERM) {
+            long days = (long) (-NEAR_TERM_MEAN_DAYS * Math.log(1.0 - random.nextDouble()));
+            return FIRST_DATE.plusDays(Math.min(days, DATE_RANGE_DAYS));
+        }
+        return FIRST_DATE.plusDays(random.nextInt(DATE_RANGE_DAYS));
+    }
+
+    /**
+     * Returns an event time such as "Mon 3pm".
+     *
+     * @param day The day prefix.
+     * @return An event time string.
+     */
+    public String nextTime(String day) {
+        return day + " " + (random.nextInt(12) + 1) + "pm";
+    }
+
+    /**
+     * Returns a random int between 0 (inclusive) and the bound (exclusive).
+     *
+     * @param bound Upper bound, must be positive.
+     * @return A random int.
+     */
+    public int nextInt(int bound) {
+        return random.nextInt(bound);
+    }
+
+    private Task nextTask() {
+        String description = nextDescription();
+        Task task;
+        switch (random.nextInt(3)) {
+            case 0:
+                task = new ToDo(description);
+                break;
+            case 1:
+                task = new Deadline(description, nextDate());
+                break;
+            default:
+                task = new Event(description, nextTime("Mon"), nextTime("Tue"));
+                break;
+        }
+        if (random.nextInt(3) == 0) {
+            task.mark();
+        }
+        return task;
+    }
+}
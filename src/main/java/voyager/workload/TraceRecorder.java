@@ -0,0 +1,41 @@
+package voyager.workload;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Appends every command of a live session to a trace file, so the session can be replayed later.
+ * The file is written as UTF-8, the encoding {@link TraceReplayer#readTrace} expects.
+ */
+public class TraceRecorder {
+    private final BufferedWriter writer;
+
+    /**
+     * Opens the trace file for appending.
+     *
+     * @param file The trace file.
+     * @throws IOException If the file cannot be opened.
+     */
+    public TraceRecorder(File file) throws IOException {
+        this.writer = new BufferedWriter(new FileWriter(file, StandardCharsets.UTF_8, true));
+    }
+
+    /**
+     * Appends one command. Failures are reported once and otherwise ignored, so that
+     * recording can never break the session being recorded.
+     *
+     * @param input The raw command.
+     */
+    public synchronized void record(String input) {
+        try {
+            writer.write(input);
+            writer.newLine();
+            writer.flush();
+        } catch (IOException e) {
+            System.out.println("Error recording trace: " + e.getMessage());
+        }
+    }
+}
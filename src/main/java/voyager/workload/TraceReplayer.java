@@ -0,0 +1,96 @@
+package voyager.workload;
+
+import voyager.Voyager;
+import voyager.metrics.LatencyHistogram;
+import voyager.task.Storage;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Replays a command trace against {@link Voyager#getResponse}, either flat out or at a target rate.
+ * At a target rate, each command's latency is measured from the time it was scheduled to start,
+ * so a slow command also shows up in the latency of the commands queued behind it.
+ */
+public class TraceReplayer {
+    private final Storage storage;
+
+    /**
+     * Creates a replayer that runs against the given data file.
+     *
+     * @param storage Storage for the Voyager instance under test. Existing tasks in it are loaded first.
+     */
+    public TraceReplayer(Storage storage) {
+        this.storage = storage;
+    }
+
+    /**
+     * Reads a trace file written by {@link TraceRecorder} or {@link WorkloadGenerator}.
+     *
+     * @param traceFile The trace file, in UTF-8.
+     * @return The trace lines.
+     * @throws IOException If the file cannot be read.
+     */
+    public static List<String> readTrace(Path traceFile) throws IOException {
+        return Files.readAllLines(traceFile, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Replays a trace. Blank lines and comments starting with {@code #} are skipped,
+     * except for the preload directive written by {@link WorkloadGenerator}.
+     *
+     * @param trace      The trace lines.
+     * @param targetRate Commands per second, or 0 to replay as fast as possible.
+     * @return The replay summary.
+     */
+    public ReplayReport replay(List<String> trace, double targetRate) {
+        Voyager voyager = new Voyager(storage);
+        voyager.loadTasks();
+
+        LatencyHistogram latencies = new LatencyHistogram();
+        long intervalNanos = targetRate > 0 ? (long) (1_000_000_000L / targetRate) : 0;
+        int commandCount = 0;
+        long start = System.nanoTime();
+
+        for (String line : trace) {
+            if (line.startsWith(WorkloadGenerator.PRELOAD_DIRECTIVE)) {
+                preload(voyager, line);
+                start = System.nanoTime();
+                continue;
+            }
+            if (line.isBlank() || line.startsWith("#")) {
+                continue;
+            }
+
+            long scheduled = intervalNanos > 0 ? start + commandCount * intervalNanos : System.nanoTime();
+            waitUntil(scheduled);
+            voyager.getResponse(line);
+            latencies.record(System.nanoTime() - scheduled);
+            commandCount++;
+        }
+
+        long elapsed = System.nanoTime() - start;
+        return new ReplayReport(commandCount, elapsed, latencies, storage.getDataFile().length());
+    }
+
+    private static void preload(Voyager voyager, String directive) {
+        String[] parts = directive.split(" ");
+        int count = Integer.parseInt(parts[1]);
+        long seed = Long.parseLong(parts[2]);
+        TaskGenerator.DateDistribution dates = parts.length > 3
+                ? TaskGenerator.DateDistribution.valueOf(parts[3])
+                : TaskGenerator.DateDistribution.UNIFORM;
+        voyager.installTasks(new TaskGenerator(seed, dates).generate(count));
+    }
+
+    private static void waitUntil(long deadlineNanos) {
+        long remaining;
+        while ((remaining = deadlineNanos - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+}
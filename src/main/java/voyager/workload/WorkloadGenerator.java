@@ -0,0 +1,134 @@
+package voyager.workload;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Generates command traces with a configurable mix of commands.
+ * The generator tracks how many tasks the list would hold at each step, so every
+ * {@code mark}, {@code unmark} and {@code delete} refers to a task that exists when replayed.
+ */
+public class WorkloadGenerator {
+    /** Directive that asks the replayer to install synthetic tasks before the first command. */
+    public static final String PRELOAD_DIRECTIVE = "#preload";
+
+    private final TaskGenerator generator;
+    private final long seed;
+    private final TaskGenerator.DateDistribution dates;
+    private final Map<String, Integer> mix;
+    private final int totalWeight;
+
+    /**
+     * Creates a generator.
+     *
+     * @param seed  Seed for the random source.
+     * @param mix   Relative weight of each command word. Supported words are todo, deadline, event,
+     *              mark, unmark, delete, find, list, sort and sortdate.
+     * @param dates How deadline dates are distributed.
+     */
+    public WorkloadGenerator(long seed, Map<String, Integer> mix, TaskGenerator.DateDistribution dates) {
+        this.generator = new TaskGenerator(seed, dates);
+        this.seed = seed;
+        this.dates = dates;
+        this.mix = new LinkedHashMap<>(mix);
+        int total = 0;
+        for (int weight : mix.values()) {
+            total += weight;
+        }
+        assert total > 0 : "Workload mix should have a positive total weight";
+        this.totalWeight = total;
+    }
+
+    /**
+     * Returns the default mix, weighted towards adds, marks and finds.
+     *
+     * @return Command weights.
+     */
+    public static Map<String, Integer> defaultMix() {
+        Map<String, Integer> mix = new LinkedHashMap<>();
+        mix.put("todo", 20);
+        mix.put("deadline", 15);
+        mix.put("event", 10);
+        mix.put("mark", 15);
+        mix.put("unmark", 5);
+        mix.put("delete", 10);
+        mix.put("find", 15);
+        mix.put("list", 5);
+        mix.put("sort", 2);
+        mix.put("sortdate", 3);
+        return mix;
+    }
+
+    /**
+     * Generates a trace.
+     *
+     * @param initialSize  Number of synthetic tasks the replayer installs before the first command.
+     * @param commandCount Number of commands to generate.
+     * @return The trace lines, starting with a preload directive.
+     */
+    public List<String> generate(int initialSize, int commandCount) {
+        List<String> trace = new ArrayList<>(commandCount + 1);
+        trace.add(PRELOAD_DIRECTIVE + " " + initialSize + " " + seed + " " + dates.name());
+
+        int size = initialSize;
+        for (int i = 0; i < commandCount; i++) {
+            String command = nextCommandWord();
+            if (size == 0 && needsExistingTask(command)) {
+                command = "todo";
+            }
+            trace.add(buildCommand(command, size));
+            size += sizeChange(command);
+        }
+        return trace;
+    }
+
+    private String nextCommandWord() {
+        int pick = generator.nextInt(totalWeight);
+        for (Map.Entry<String, Integer> entry : mix.entrySet()) {
+            pick -= entry.getValue();
+            if (pick < 0) {
+                return entry.getKey();
+            }
+        }
+        throw new AssertionError("Weighted pick should always land on a command");
+    }
+
+    private String buildCommand(String command, int size) {
+        switch (command) {
+            case "todo":
+                return "todo " + generator.nextDescription();
+            case "deadline":
+                return "deadline " + generator.nextDescription() + " /by " + generator.nextDate();
+            case "event":
+                return "event " + generator.nextDescription()
+                        + " /from " + generator.nextTime("Mon") + " /to " + generator.nextTime("Tue");
+            case "mark":
+            case "unmark":
+            case "delete":
+                return command + " " + (generator.nextInt(size) + 1);
+            case "find":
+                return "find " + generator.nextWord();
+            default:
+                return command;
+        }
+    }
+
+    private static boolean needsExistingTask(String command) {
+        return command.equals("mark") || command.equals("unmark") || command.equals("delete");
+    }
+
+    private static int sizeChange(String command) {
+        switch (command) {
+            case "todo":
+            case "deadline":
+            case "event":
+                return 1;
+            case "delete":
+                return -1;
+            default:
+                return 0;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package voyager.workload;
+
+import voyager.task.Storage;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Command-line entry point for generating and replaying workload traces.
+ * <pre>
+ * generate TRACE_FILE [--commands N] [--initial N] [--seed N] [--dates uniform|near_term] [--mix todo=20,find=10,...]
+ * replay TRACE_FILE DATA_FILE [--rate COMMANDS_PER_SECOND]
+ * </pre>
+ */
+public class WorkloadMain {
+    private static final String USAGE = "Usage:\n"
+            + "  generate TRACE_FILE [--commands N] [--initial N] [--seed N] [--dates uniform|near_term]"
+            + " [--mix todo=20,find=10,...]\n"
+            + "  replay TRACE_FILE DATA_FILE [--rate COMMANDS_PER_SECOND]";
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.out.println(USAGE);
+            return;
+        }
+
+        switch (args[0]) {
+            case "generate":
+                generate(Path.of(args[1]), parseOptions(args, 2));
+                break;
+            case "replay":
+                if (args.length < 3) {
+                    System.out.println(USAGE);
+                    return;
+                }
+                replay(Path.of(args[1]), args[2], parseOptions(args, 3));
+                break;
+            default:
+                System.out.println(USAGE);
+                break;
+        }
+    }
+
+    private static void generate(Path traceFile, Map<String, String> options) throws IOException {
+        int commands = Integer.parseInt(options.getOrDefault("commands", "10000"));
+        int initial = Integer.parseInt(options.getOrDefault("initial", "0"));
+        long seed = Long.parseLong(options.getOrDefault("seed", "42"));
+        TaskGenerator.DateDistribution dates =
+                TaskGenerator.DateDistribution.valueOf(options.getOrDefault("dates", "uniform").toUpperCase());
+        Map<String, Integer> mix = options.containsKey("mix")
+                ? parseMix(options.get("mix"))
+                : WorkloadGenerator.defaultMix();
+
+        List<String> trace = new WorkloadGenerator(seed, mix, dates).generate(initial, commands);
+        Files.write(traceFile, trace, StandardCharsets.UTF_8);
+        System.out.println("Wrote " + commands + " commands to " + traceFile);
+    }
+
+    private static void replay(Path traceFile, String dataFile, Map<String, String> options) throws IOException {
+        double rate = Double.parseDouble(options.getOrDefault("rate", "0"));
+        List<String> trace = TraceReplayer.readTrace(traceFile);
+        ReplayReport report = new TraceReplayer(new Storage(dataFile)).replay(trace, rate);
+        System.out.println(report);
+    }
+
+    private static Map<String, String> parseOptions(String[] args, int from) {
+        Map<String, String> options = new HashMap<>();
+        for (int i = from; i + 1 < args.length; i += 2) {
+            options.put(args[i].replaceFirst("^--", ""), args[i + 1]);
+        }
+        return options;
+    }
+
+    private static Map<String, Integer> parseMix(String spec) {
+        Map<String, Integer> mix = new LinkedHashMap<>();
+        for (String entry : spec.split(",")) {
+            String[] parts = entry.split("=");
+            mix.put(parts[0].trim(), Integer.parseInt(parts[1].trim()));
+        }
+        return mix;
+    }
+}
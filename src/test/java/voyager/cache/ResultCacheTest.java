@@ -0,0 +1,40 @@
+package voyager.cache;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class ResultCacheTest {
+    @Test
+    public void testGet_newerVersion_invalidatesEveryEntry() {
+        ResultCache cache = new ResultCache(10, 1000);
+        cache.put(ResultCache.key("list", ""), 1, "one");
+        cache.put(ResultCache.key("find", "book"), 1, "two");
+
+        assertEquals("one", cache.get("list", "list", 1));
+        assertNull(cache.get("find", "find book", 2));
+        assertNull(cache.get("list", "list", 2));
+    }
+
+    @Test
+    public void testPut_overEntryOrCharLimit_evictsLeastRecentlyUsed() {
+        ResultCache cache = new ResultCache(2, 10);
+        cache.put("a", 1, "aaaa");
+        cache.put("b", 1, "bbbb");
+        cache.get("list", "a", 1);
+        cache.put("c", 1, "cc");
+
+        assertNull(cache.get("list", "b", 1));
+        assertEquals("aaaa", cache.get("list", "a", 1));
+
+        cache.put("d", 1, "dddddddd");
+        assertNull(cache.get("list", "a", 1));
+        assertEquals("dddddddd", cache.get("list", "d", 1));
+    }
+
+    @Test
+    public void testKey_collapsesWhitespace() {
+        assertEquals("agenda /from 2026-01-01 /to 2026-02-01",
+                ResultCache.key("agenda", " /from 2026-01-01   /to\t2026-02-01 "));
+    }
+}
@@ -0,0 +1,27 @@
+package voyager.metrics;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LatencyHistogramTest {
+    @Test
+    public void testPercentiles_withinBucketPrecision() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long i = 1; i <= 1000; i++) {
+            histogram.record(i * 1000);
+        }
+
+        long p50 = histogram.getValueAtPercentile(50);
+        long p99 = histogram.getValueAtPercentile(99);
+        assertTrue(p50 >= 500_000 && p50 <= 500_000 * 1.125, "p50 was " + p50);
+        assertTrue(p99 >= 990_000 && p99 <= 1_000_000, "p99 was " + p99);
+        assertEquals(1_000_000, histogram.getMax());
+        assertEquals(1000, histogram.getCount());
+    }
+
+    @Test
+    public void testEmptyHistogram_returnsZero() {
+        assertEquals(0, new LatencyHistogram().getValueAtPercentile(99));
+    }
+}
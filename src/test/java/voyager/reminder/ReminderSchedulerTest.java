@@ -0,0 +1,96 @@
+package voyager.reminder;
+
+import org.junit.jupiter.api.Test;
+import voyager.task.Deadline;
+import voyager.task.TaskList;
+import voyager.task.ToDo;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class ReminderSchedulerTest {
+    private static class MutableClock extends Clock {
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+
+    @Test
+    public void testReminders_followMarkUnmarkAndDelete() throws Exception {
+        MutableClock clock = new MutableClock(Instant.parse("2026-03-01T00:00:00Z"));
+        List<String> fired = new ArrayList<>();
+        ReminderScheduler scheduler = new ReminderScheduler(clock, Duration.ofDays(1), Duration.ofMinutes(1),
+                deadline -> fired.add(deadline.getDescription()));
+        TaskList taskList = new TaskList();
+        taskList.addListener(scheduler);
+
+        taskList.add(new Deadline("report", LocalDate.parse("2026-03-05")));
+        taskList.add(new Deadline("essay", LocalDate.parse("2026-03-05")));
+        taskList.add(new Deadline("slides", LocalDate.parse("2026-03-10")));
+        taskList.add(new ToDo("not a deadline"));
+        assertEquals(3, scheduler.getPendingCount());
+
+        taskList.mark(0);
+        taskList.mark(1);
+        taskList.remove(2);
+        taskList.unmark(0);
+        assertEquals(1, scheduler.getPendingCount());
+
+        clock.advance(Duration.ofDays(3).minusMinutes(1));
+        scheduler.tick();
+        assertEquals(List.of(), fired);
+
+        clock.advance(Duration.ofMinutes(1));
+        scheduler.tick();
+        assertEquals(List.of("report"), fired);
+        assertEquals(0, scheduler.getPendingCount());
+    }
+
+    @Test
+    public void testReminders_replacedTask_cancelsOutgoingOne() throws Exception {
+        MutableClock clock = new MutableClock(Instant.parse("2026-03-01T00:00:00Z"));
+        List<String> fired = new ArrayList<>();
+        ReminderScheduler scheduler = new ReminderScheduler(clock, Duration.ofDays(1), Duration.ofMinutes(1),
+                deadline -> fired.add(deadline.getDescription()));
+        TaskList taskList = new TaskList();
+        taskList.addListener(scheduler);
+
+        taskList.add(new Deadline("report", LocalDate.parse("2026-03-05")));
+        Deadline done = new Deadline("report", LocalDate.parse("2026-03-05"));
+        done.mark(LocalDate.parse("2026-03-01"));
+        taskList.set(0, done);
+        assertEquals(0, scheduler.getPendingCount());
+
+        taskList.set(0, new Deadline("essay", LocalDate.parse("2026-03-05")));
+        clock.advance(Duration.ofDays(3));
+        scheduler.tick();
+        assertEquals(List.of("essay"), fired);
+    }
+}
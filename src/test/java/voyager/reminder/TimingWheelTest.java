@@ -0,0 +1,46 @@
+package voyager.reminder;
+
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TimingWheelTest {
+    private static final long TICK = 1000;
+
+    @Test
+    public void testAdvanceTo_expiresEachTimeoutAtItsTick() {
+        TimingWheel<Long> wheel = new TimingWheel<>(TICK, 0);
+        long[] delays = {1, 63, 64, 65, 4095, 4096, 300_000, 20_000_000};
+        for (long delay : delays) {
+            wheel.schedule(delay, delay * TICK);
+        }
+
+        for (long delay : delays) {
+            assertTrue(wheel.advanceTo((delay - 1) * TICK).isEmpty(), "fired early: " + delay);
+            assertEquals(List.of(delay), wheel.advanceTo(delay * TICK));
+        }
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    public void testCancel_removesPendingTimeout() {
+        TimingWheel<String> wheel = new TimingWheel<>(TICK, 0);
+        TimingWheel.Timeout<String> cancelled = wheel.schedule("cancelled", 5000 * TICK);
+        wheel.schedule("kept", 5000 * TICK);
+
+        wheel.cancel(cancelled);
+
+        assertEquals(List.of("kept"), wheel.advanceTo(6000 * TICK));
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    public void testSchedule_inThePast_expiresOnNextAdvance() {
+        TimingWheel<String> wheel = new TimingWheel<>(TICK, 10 * TICK);
+        wheel.schedule("late", 0);
+        List<String> expired = new ArrayList<>(wheel.advanceTo(10 * TICK));
+        assertEquals(List.of("late"), expired);
+    }
+}
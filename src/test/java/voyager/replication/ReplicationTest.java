@@ -0,0 +1,86 @@
+package voyager.replication;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import voyager.task.Deadline;
+import voyager.task.Storage;
+import voyager.task.Task;
+import voyager.task.TaskList;
+import voyager.task.ToDo;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+public class ReplicationTest {
+    private static final long TIMEOUT_MILLIS = 10_000;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    public void testFollower_appliesMutationsAndResumesFromCheckpoint() throws Exception {
+        TaskList primary = new TaskList();
+        primary.addAll(List.of(new ToDo("a \u00e9\u65e5 \uD83D\uDE80"), new ToDo("b")));
+        ReplicationLog log = new ReplicationLog(dir.resolve("replication.log").toFile());
+        log.reset(primary.getAll());
+        primary.addListener(log);
+
+        try (ReplicationServer server = new ReplicationServer(log, 0)) {
+            server.start();
+            Storage followerStorage = new Storage(dir.resolve("follower.txt").toString());
+            Follower follower = new Follower("localhost", server.getPort(), followerStorage);
+            follower.start();
+
+            primary.add(new Deadline("c", LocalDate.parse("2026-05-01")));
+            primary.mark(0);
+            primary.sort((t1, t2) -> t2.getDescription().compareTo(t1.getDescription()));
+            primary.remove(1);
+            awaitCaughtUp(follower, log);
+            assertEquals(describe(primary), describe(follower));
+            follower.stop();
+            follower.persist();
+            Path copy = dir.resolve("follower.txt");
+            Files.move(copy, dir.resolve("follower.keep"));
+            follower.persist();
+            assertFalse(Files.exists(copy));
+            Files.move(dir.resolve("follower.keep"), copy);
+
+            primary.add(new ToDo("d"));
+            primary.unmark(2);
+            Follower restarted = new Follower("localhost", server.getPort(), followerStorage);
+            long checkpoint = restarted.getAppliedSeq();
+            restarted.start();
+            awaitCaughtUp(restarted, log);
+
+            assertEquals(describe(primary), describe(restarted));
+            assertEquals(log.getLastSeq() - 2, checkpoint);
+            restarted.stop();
+        }
+    }
+
+    private static void awaitCaughtUp(Follower follower, ReplicationLog log) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (follower.getAppliedSeq() < log.getLastSeq() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    private static List<String> describe(TaskList taskList) {
+        List<String> lines = new ArrayList<>();
+        for (Task task : taskList.getAll()) {
+            lines.add(task.toString());
+        }
+        return lines;
+    }
+
+    private static List<String> describe(Follower follower) {
+        synchronized (follower) {
+            return describe(follower.getTaskList());
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package voyager.search;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import voyager.task.Task;
+import voyager.task.TaskList;
+import voyager.task.ToDo;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class SavedSearchesTest {
+    private static final String[] WORDS = {"buy", "read", "milk", "book", "Buy"};
+
+    @TempDir
+    Path dir;
+
+    @Test
+    public void testResults_randomMutations_matchFullScan() throws Exception {
+        TaskList taskList = new TaskList();
+        taskList.addAll(List.of(new ToDo("buy milk"), new ToDo("read")));
+        SavedSearches searches = new SavedSearches(taskList, dir.resolve("searches.txt").toFile());
+        SavedSearch buy = searches.save("shop", "buy");
+        SavedSearch book = searches.save("reading", "BOOK");
+        Random random = new Random(7);
+
+        for (int step = 0; step < 2000; step++) {
+            int size = taskList.size();
+            switch (random.nextInt(6)) {
+                case 0:
+                    taskList.add(randomTask(random));
+                    break;
+                case 1:
+                    taskList.insert(random.nextInt(size + 1), randomTask(random));
+                    break;
+                case 2:
+                    taskList.addAll(List.of(randomTask(random), randomTask(random), randomTask(random)));
+                    break;
+                case 3:
+                    if (size > 0) {
+                        taskList.remove(random.nextInt(size));
+                    }
+                    break;
+                case 4:
+                    if (size > 0) {
+                        taskList.set(random.nextInt(size), randomTask(random));
+                    }
+                    break;
+                default:
+                    taskList.sort((t1, t2) -> t1.getDescription().compareTo(t2.getDescription()));
+                    break;
+            }
+
+            assertEquals(scan(taskList, "buy"), buy.getResults(taskList.getAll()), "step " + step);
+            assertEquals(scan(taskList, "book"), book.getResults(taskList.getAll()), "step " + step);
+        }
+        assertEquals(scan(taskList, "buy").size(), buy.getMatchCount());
+    }
+
+    @Test
+    public void testSave_definitionsPersisted_rebuiltWhenTasksArrive() throws Exception {
+        SavedSearches original = new SavedSearches(new TaskList(), dir.resolve("searches.txt").toFile());
+        original.save("shop", "buy | sell");
+
+        TaskList taskList = new TaskList();
+        SavedSearches reloaded = new SavedSearches(taskList, dir.resolve("searches.txt").toFile());
+        taskList.addAll(List.of(new ToDo("buy | sell shares"), new ToDo("read")));
+
+        assertEquals("buy | sell", reloaded.get("shop").getKeyword());
+        assertEquals(1, reloaded.get("shop").getMatchCount());
+    }
+
+    private static Task randomTask(Random random) {
+        return new ToDo(WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)]);
+    }
+
+    private static List<Task> scan(TaskList taskList, String keyword) {
+        List<Task> matches = new ArrayList<>();
+        for (Task task : taskList.getAll()) {
+            if (SavedSearch.matches(task, keyword)) {
+                matches.add(task);
+            }
+        }
+        return matches;
+    }
+}
@@ -0,0 +1,92 @@
+package voyager.task;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ArchiveTest {
+    @TempDir
+    Path dir;
+
+    @Test
+    public void testFind_acrossAppendedSegments_returnsMatchesWithDoneDates() throws Exception {
+        Archive archive = new Archive(dir.resolve("archive.gz").toFile());
+        ToDo read = new ToDo("read book");
+        read.mark(LocalDate.parse("2026-01-02"));
+        Deadline pay = new Deadline("pay rent", LocalDate.parse("2026-02-01"));
+        pay.mark(LocalDate.parse("2026-01-30"));
+        ToDo returnBook = new ToDo("return book");
+        returnBook.mark(LocalDate.parse("2026-03-01"));
+
+        archive.append(List.of(read, pay));
+        archive.append(List.of(returnBook));
+        List<Task> matches = archive.find(task -> task.getDescription().contains("book"));
+
+        assertEquals(2, matches.size());
+        assertEquals("read book", matches.get(0).getDescription());
+        assertEquals(LocalDate.parse("2026-01-02"), matches.get(0).getDoneAt());
+        assertEquals("return book", matches.get(1).getDescription());
+    }
+
+    @Test
+    public void testIsExpired_onlyDoneTasksPastTheAge() {
+        LocalDate today = LocalDate.parse("2026-03-31");
+        ToDo done = new ToDo("done");
+        done.mark(LocalDate.parse("2026-03-01"));
+
+        assertTrue(Archive.isExpired(done, today, 30));
+        assertFalse(Archive.isExpired(done, today, 31));
+        assertFalse(Archive.isExpired(new ToDo("open"), today, 0));
+    }
+
+    @Test
+    public void testRecover_interruptedBeforeOrAfterSave_archivesEachTaskOnce() throws Exception {
+        Archive archive = new Archive(dir.resolve("archive.gz").toFile());
+        ToDo read = done("read book");
+        ToDo swim = done("swim");
+        ToDo open = new ToDo("open");
+
+        archive.beginMove(List.of(read, swim));
+        List<Task> active = archive.recover(List.of(read, swim, open));
+        assertEquals(List.of(open), active);
+        assertEquals(2, archive.find(task -> true).size());
+
+        active = archive.recover(List.of(open));
+        archive.endMove();
+        assertEquals(List.of(open), active);
+        assertEquals(2, archive.find(task -> true).size());
+        assertFalse(archive.hasPendingMove());
+    }
+
+    @Test
+    public void testFind_truncatedLastSegment_stopsAtLastCompleteSegment() throws Exception {
+        Path file = dir.resolve("archive.gz");
+        Archive archive = new Archive(file.toFile());
+        archive.append(List.of(done("read book")));
+        long complete = Files.size(file);
+        archive.beginMove(List.of(done("return book")));
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.truncate(complete + (Files.size(file) - complete) / 2);
+        }
+
+        assertEquals(1, archive.find(task -> true).size());
+
+        archive.recover(List.of());
+        archive.endMove();
+        assertEquals(2, archive.find(task -> task.getDescription().contains("book")).size());
+    }
+
+    private static ToDo done(String description) {
+        ToDo task = new ToDo(description);
+        task.mark(LocalDate.parse("2026-01-02"));
+        return task;
+    }
+}
@@ -0,0 +1,49 @@
+package voyager.task;
+
+import org.junit.jupiter.api.Test;
+import java.time.LocalDate;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class RecurringTaskTest {
+    @Test
+    public void testOccurrencesBetween_weekly_onlyInsideWindow() {
+        RecurringTask task = new RecurringTask("standup", LocalDate.parse("2026-01-05"),
+                RecurringTask.Frequency.WEEKLY, null);
+
+        List<LocalDate> occurrences = task.occurrencesBetween(
+                LocalDate.parse("2030-06-01"), LocalDate.parse("2030-06-20"));
+
+        assertEquals(List.of(LocalDate.parse("2030-06-03"), LocalDate.parse("2030-06-10"),
+                LocalDate.parse("2030-06-17")), occurrences);
+    }
+
+    @Test
+    public void testOccurrencesBetween_monthlyFromMonthEnd_clampsWithoutDrift() {
+        RecurringTask task = new RecurringTask("rent", LocalDate.parse("2026-01-31"),
+                RecurringTask.Frequency.MONTHLY, LocalDate.parse("2026-04-30"));
+
+        List<LocalDate> occurrences = task.occurrencesBetween(
+                LocalDate.parse("2026-01-01"), LocalDate.parse("2026-12-31"));
+
+        assertEquals(List.of(LocalDate.parse("2026-01-31"), LocalDate.parse("2026-02-28"),
+                LocalDate.parse("2026-03-31"), LocalDate.parse("2026-04-30")), occurrences);
+    }
+
+    @Test
+    public void testNextOccurrence_afterUntil_returnsNull() {
+        RecurringTask task = new RecurringTask("class", LocalDate.parse("2026-01-05"),
+                RecurringTask.Frequency.WEEKLY, LocalDate.parse("2026-02-01"));
+
+        assertEquals(LocalDate.parse("2026-01-12"), task.nextOccurrence(LocalDate.parse("2026-01-06")));
+        assertNull(task.nextOccurrence(LocalDate.parse("2026-02-02")));
+    }
+
+    @Test
+    public void testToString_showsRule() {
+        RecurringTask task = new RecurringTask("rent", LocalDate.parse("2026-01-31"),
+                RecurringTask.Frequency.MONTHLY, null);
+        assertEquals("[R][ ] rent (every month from Jan 31 2026)", task.toString());
+    }
+}
@@ -0,0 +1,199 @@
+package voyager.task;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Round-trips generated tasks through {@link Storage} and compares every field.
+ * The generator favours the text that breaks line-based formats: separators, escapes, line breaks,
+ * empty fields and characters outside the BMP. Set {@code -Dvoyager.roundtrip.seed} to reproduce a failure.
+ */
+public class StorageRoundTripTest {
+    private static final long SEED = Long.getLong("voyager.roundtrip.seed", 20260101L);
+    private static final int RANDOM_TASKS = 20_000;
+    private static final int SCALE_TASKS = Integer.getInteger("voyager.scale.tasks", 2_000_000);
+    private static final long SCALE_MAX_MILLIS = Long.getLong("voyager.scale.maxMillis", 30_000);
+    private static final long SCALE_MAX_BYTES_PER_TASK = Long.getLong("voyager.scale.maxBytesPerTask", 400);
+
+    private static final String[] TOKENS = {
+        "read", "book", "x", " ", " ", "|", " | ", " |", "| ", "\\", "\\|", "\\n", "\n", "\r\n",
+        "@", "1@2026-01-01", ",", "\"", "\t", "\u00e9", "\u65e5\u672c\u8a9e", "\uD83D\uDE80", "/by", "/from", "#"
+    };
+
+    @TempDir
+    Path dir;
+
+    @Test
+    public void testRoundTrip_adversarialFields_preservedExactly() {
+        List<Task> tasks = new ArrayList<>();
+        for (String text : List.of("a | b", "|", " | ", "ends with |", "| starts", "back\\slash", "trailing\\",
+                "\\|", "two\nlines", "crlf\r\n", "", " ", "  padded  ", "\u65e5\u672c\u8a9e \u2713 \uD83D\uDE80", "1@2026-01-01")) {
+            tasks.add(new ToDo(text));
+            tasks.add(new Event(text, "", text));
+            tasks.add(new Event(text, text, ""));
+        }
+        Deadline done = new Deadline("pay | rent", LocalDate.parse("2026-02-01"));
+        done.mark(LocalDate.parse("2026-01-31"));
+        tasks.add(done);
+        tasks.add(new RecurringTask("gym | swim", LocalDate.parse("2026-01-05"), RecurringTask.Frequency.WEEKLY, null));
+
+        assertRoundTrips(tasks);
+    }
+
+    @Test
+    public void testRoundTrip_randomTasks_preservedFieldByField() {
+        Random random = new Random(SEED);
+        List<Task> tasks = new ArrayList<>(RANDOM_TASKS);
+        for (int i = 0; i < RANDOM_TASKS; i++) {
+            tasks.add(randomTask(random));
+        }
+
+        assertRoundTrips(tasks);
+    }
+
+    @Test
+    public void testLoad_malformedLines_skippedAndFileBackedUp() throws IOException {
+        Path file = dir.resolve("voyager.txt");
+        List<String> lines = List.of("T | 0 | read", "D | 0 | pay | not-a-date", "E | 1", "T | 1@2026-01-31 | swim");
+        Files.write(file, lines, StandardCharsets.UTF_8);
+        Storage storage = new Storage(file.toString());
+
+        List<Task> loaded = new ArrayList<>();
+        List<Integer> skipped = storage.loadTasks(loaded);
+
+        assertEquals(List.of(2, 3), skipped);
+        assertEquals(2, loaded.size());
+        assertEquals("[T][ ] read", loaded.get(0).toString());
+        assertEquals("[T][X] swim", loaded.get(1).toString());
+        assertEquals(lines, Files.readAllLines(storage.getBackupFile().toPath(), StandardCharsets.UTF_8));
+    }
+
+    @Tag("scale")
+    @Test
+    public void testRoundTrip_millionsOfTasks_withinTimeAndHeapBudgets() throws Exception {
+        Storage storage = new Storage(dir.resolve("voyager.txt").toString());
+        List<Task> tasks = new ArrayList<>(SCALE_TASKS);
+        Random random = new Random(SEED);
+        for (int i = 0; i < SCALE_TASKS; i++) {
+            tasks.add(randomTask(random));
+        }
+
+        long start = System.nanoTime();
+        storage.save(tasks);
+        long saveMillis = (System.nanoTime() - start) / 1_000_000;
+        tasks = null;
+
+        long heapBefore = usedHeap();
+        List<Task> loaded = new ArrayList<>();
+        start = System.nanoTime();
+        storage.loadTasks(loaded);
+        long loadMillis = (System.nanoTime() - start) / 1_000_000;
+        long bytesPerTask = (usedHeap() - heapBefore) / SCALE_TASKS;
+
+        assertEquals(SCALE_TASKS, loaded.size());
+        random = new Random(SEED);
+        for (int i = 0; i < SCALE_TASKS; i++) {
+            assertSameTask(randomTask(random), loaded.get(i), "task " + i + " (seed " + SEED + ")");
+        }
+        System.out.println("Round-tripped " + SCALE_TASKS + " tasks: save " + saveMillis + " ms, load "
+                + loadMillis + " ms, " + bytesPerTask + " bytes per loaded task");
+        assertTrue(saveMillis + loadMillis <= SCALE_MAX_MILLIS,
+                "Save and load took " + (saveMillis + loadMillis) + " ms, budget " + SCALE_MAX_MILLIS + " ms");
+        assertTrue(bytesPerTask <= SCALE_MAX_BYTES_PER_TASK,
+                "Loaded tasks retain " + bytesPerTask + " bytes each, budget " + SCALE_MAX_BYTES_PER_TASK);
+    }
+
+    private void assertRoundTrips(List<Task> tasks) {
+        Storage storage = new Storage(dir.resolve("voyager.txt").toString());
+        List<Task> loaded = new ArrayList<>();
+        try {
+            storage.save(tasks);
+        } catch (IOException e) {
+            throw new AssertionError(e);
+        }
+        storage.loadTasks(loaded);
+
+        assertEquals(tasks.size(), loaded.size());
+        for (int i = 0; i < tasks.size(); i++) {
+            assertSameTask(tasks.get(i), loaded.get(i), "task " + i + " (seed " + SEED + ")");
+        }
+    }
+
+    private static void assertSameTask(Task expected, Task actual, String context) {
+        assertEquals(expected.getClass(), actual.getClass(), context + " type");
+        assertEquals(expected.getDescription(), actual.getDescription(), context + " description");
+        assertEquals(expected.isDone(), actual.isDone(), context + " done");
+        assertEquals(expected.getDoneAt(), actual.getDoneAt(), context + " done date");
+        if (expected instanceof Deadline) {
+            assertEquals(((Deadline) expected).getBy(), ((Deadline) actual).getBy(), context + " by");
+        } else if (expected instanceof Event) {
+            assertEquals(((Event) expected).getFrom(), ((Event) actual).getFrom(), context + " from");
+            assertEquals(((Event) expected).getTo(), ((Event) actual).getTo(), context + " to");
+        } else if (expected instanceof RecurringTask) {
+            RecurringTask e = (RecurringTask) expected;
+            RecurringTask a = (RecurringTask) actual;
+            assertEquals(e.getStart(), a.getStart(), context + " start");
+            assertEquals(e.getFrequency(), a.getFrequency(), context + " frequency");
+            assertEquals(e.getUntil(), a.getUntil(), context + " until");
+        }
+    }
+
+    private static Task randomTask(Random random) {
+        Task task;
+        switch (random.nextInt(4)) {
+            case 0:
+                task = new ToDo(randomText(random));
+                break;
+            case 1:
+                task = new Deadline(randomText(random), randomDate(random));
+                break;
+            case 2:
+                task = new Event(randomText(random), randomText(random), randomText(random));
+                break;
+            default:
+                LocalDate start = randomDate(random);
+                task = new RecurringTask(randomText(random), start,
+                        random.nextBoolean() ? RecurringTask.Frequency.WEEKLY : RecurringTask.Frequency.MONTHLY,
+                        random.nextBoolean() ? null : start.plusDays(random.nextInt(1000)));
+                break;
+        }
+        if (random.nextInt(3) == 0) {
+            task.mark(randomDate(random));
+        }
+        return task;
+    }
+
+    private static String randomText(Random random) {
+        int length = random.nextInt(6);
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            sb.append(TOKENS[random.nextInt(TOKENS.length)]);
+        }
+        return sb.toString();
+    }
+
+    private static LocalDate randomDate(Random random) {
+        return LocalDate.ofEpochDay(18_000 + random.nextInt(10_000));
+    }
+
+    private static long usedHeap() throws InterruptedException {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            Thread.sleep(50);
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,95 @@
+package voyager.task;
+
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TaskListTest {
+    private static class RecordingListener implements TaskListListener {
+        private final List<String> events = new ArrayList<>();
+        private int[] lastPermutation;
+
+        @Override
+        public void onAdded(int fromIndex, List<Task> added) {
+            events.add("added " + fromIndex + " x" + added.size());
+        }
+
+        @Override
+        public void onRemoved(int index, Task removed) {
+            events.add("removed " + index + " " + removed.getDescription());
+        }
+
+        @Override
+        public void onUpdated(int index, Task updated) {
+            events.add("updated " + index + " " + updated.isDone());
+        }
+
+        @Override
+        public void onReordered(int[] permutation) {
+            events.add("reordered");
+            lastPermutation = permutation;
+        }
+    }
+
+    @Test
+    public void testMutations_publishDeltas() throws Exception {
+        TaskList taskList = new TaskList();
+        RecordingListener listener = new RecordingListener();
+        taskList.addListener(listener);
+
+        taskList.addAll(List.of(new ToDo("a"), new ToDo("b")));
+        taskList.add(new ToDo("c"));
+        taskList.mark(1);
+        taskList.remove(0);
+
+        assertEquals(List.of("added 0 x2", "added 2 x1", "updated 1 true", "removed 0 a"),
+                listener.events);
+    }
+
+    @Test
+    public void testGetVersion_changesOnEveryMutation() throws Exception {
+        TaskList taskList = new TaskList();
+        long version = taskList.getVersion();
+
+        taskList.add(new ToDo("a"));
+        assertTrue(taskList.getVersion() != version);
+        version = taskList.getVersion();
+        taskList.mark(0);
+        assertTrue(taskList.getVersion() != version);
+        version = taskList.getVersion();
+        taskList.removeIf(task -> false);
+        assertEquals(version, taskList.getVersion());
+    }
+
+    @Test
+    public void testRemoveIf_publishesRemovalsFromHighestIndex() {
+        TaskList taskList = new TaskList();
+        taskList.addAll(List.of(new ToDo("a"), new ToDo("b"), new ToDo("c"), new ToDo("d")));
+        RecordingListener listener = new RecordingListener();
+        taskList.addListener(listener);
+
+        List<Task> removed = taskList.removeIf(task -> !task.getDescription().equals("c"));
+
+        assertEquals(3, removed.size());
+        assertEquals(List.of("removed 3 d", "removed 1 b", "removed 0 a"), listener.events);
+        assertEquals("c", taskList.getAll().get(0).getDescription());
+        assertEquals(1, taskList.size());
+    }
+
+    @Test
+    public void testSort_publishesPermutationFromOldIndices() {
+        TaskList taskList = new TaskList();
+        taskList.addAll(List.of(new ToDo("c"), new ToDo("a"), new ToDo("b")));
+        RecordingListener listener = new RecordingListener();
+        taskList.addListener(listener);
+
+        taskList.sort((t1, t2) -> t1.getDescription().compareTo(t2.getDescription()));
+
+        assertArrayEquals(new int[] {1, 2, 0}, listener.lastPermutation);
+        assertEquals("a", taskList.getAll().get(0).getDescription());
+        assertEquals("c", taskList.getAll().get(2).getDescription());
+    }
+}
@@ -16,4 +16,14 @@ public class ToDoTest {
         todo.mark();
         assertEquals("[T][X] read book", todo.toString());
     }
+
+    @Test
+    public void testToString_afterMarkAndUnmark_reflectsCurrentStatus() {
+        ToDo todo = new ToDo("read book");
+        assertEquals("[T][ ] read book", todo.toString());
+        todo.mark();
+        assertEquals("[T][X] read book", todo.toString());
+        todo.unmark();
+        assertEquals("[T][ ] read book", todo.toString());
+    }
 }
\ No newline at end of file
@@ -0,0 +1,89 @@
+package voyager.transfer;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import voyager.exception.VoyagerException;
+import voyager.task.Deadline;
+import voyager.task.Task;
+import voyager.task.ToDo;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TaskImporterTest {
+    @TempDir
+    Path dir;
+
+    @Test
+    public void testImport_csvRoundTrip_batchesAndSkipsInvalidLines() throws Exception {
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            tasks.add(new ToDo("read \"chapter\", part " + i));
+        }
+        tasks.add(new Deadline("pay, now", LocalDate.parse("2026-11-01")));
+        Path file = dir.resolve("tasks.csv");
+        new TaskExporter().exportTo(tasks, file, new CsvTaskCodec());
+        Files.writeString(file, "bogus,false,x\n", StandardOpenOption.APPEND);
+
+        List<Integer> batchSizes = new ArrayList<>();
+        List<Task> imported = new ArrayList<>();
+        TaskImporter.ImportResult result = new TaskImporter(4).importFrom(file, new CsvTaskCodec(), batch -> {
+            batchSizes.add(batch.size());
+            imported.addAll(batch);
+        });
+
+        assertEquals(List.of(4, 2), batchSizes);
+        assertEquals(6, result.getImportedCount());
+        assertEquals(1, result.getRejectedCount());
+        assertEquals(List.of("line 8: unknown type 'bogus'"), result.getErrors());
+        for (int i = 0; i < tasks.size(); i++) {
+            assertEquals(tasks.get(i).toString(), imported.get(i).toString());
+        }
+    }
+
+    @Test
+    public void testRoundTrip_doneTask_keepsCompletionDate() throws Exception {
+        Deadline done = new Deadline("pay rent", LocalDate.parse("2026-02-01"));
+        done.mark(LocalDate.parse("2026-01-31"));
+
+        for (TaskCodec codec : List.of(new CsvTaskCodec(), new JsonLinesTaskCodec())) {
+            Task decoded = codec.decode(codec.encode(done));
+            assertEquals(LocalDate.parse("2026-01-31"), decoded.getDoneAt());
+            assertNull(codec.decode(codec.encode(new ToDo("open"))).getDoneAt());
+        }
+    }
+
+    @Test
+    public void testExport_lineBreakInCsv_rejectedAndJsonLinesRoundTrips() throws Exception {
+        List<Task> tasks = List.of(new ToDo("first"), new ToDo("two\nlines\r\n"));
+        Path csv = dir.resolve("tasks.csv");
+        Files.writeString(csv, "previous export\n");
+
+        VoyagerException e = assertThrows(VoyagerException.class,
+                () -> new TaskExporter().exportTo(tasks, csv, new CsvTaskCodec()));
+        assertTrue(e.getMessage().startsWith("OOPS!!! Task 2 cannot be exported"));
+        assertEquals("previous export\n", Files.readString(csv));
+
+        Path jsonl = dir.resolve("tasks.jsonl");
+        new TaskExporter().exportTo(tasks, jsonl, new JsonLinesTaskCodec());
+        List<Task> imported = new ArrayList<>();
+        new TaskImporter(10).importFrom(jsonl, new JsonLinesTaskCodec(), imported::addAll);
+        assertEquals("two\nlines\r\n", imported.get(1).getDescription());
+    }
+
+    @Test
+    public void testDecode_jsonLinesEscapes_restoresDescription() throws Exception {
+        JsonLinesTaskCodec codec = new JsonLinesTaskCodec();
+        Task task = new ToDo("tab\there \"quoted\" back\\slash");
+
+        assertEquals(task.toString(), codec.decode(codec.encode(task)).toString());
+    }
+}
@@ -0,0 +1,110 @@
+package voyager.undo;
+
+import org.junit.jupiter.api.Test;
+import voyager.exception.VoyagerException;
+import voyager.task.Task;
+import voyager.task.TaskList;
+import voyager.task.ToDo;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class UndoJournalTest {
+    @Test
+    public void testUndoRedo_restoresOrderPositionsAndDoneDates() throws Exception {
+        TaskList taskList = new TaskList();
+        UndoJournal journal = new UndoJournal(taskList, 10);
+        run(journal, "todo", () -> taskList.addAll(List.of(new ToDo("c"), new ToDo("a"), new ToDo("b"))));
+        run(journal, "mark", () -> taskList.mark(0, LocalDate.parse("2026-01-02")));
+        List<String> beforeSort = describe(taskList);
+        run(journal, "sort", () -> taskList.sort((t1, t2) -> t1.getDescription().compareTo(t2.getDescription())));
+        List<String> afterSort = describe(taskList);
+        run(journal, "delete", () -> taskList.remove(1));
+
+        assertEquals("delete", journal.undo());
+        assertEquals(afterSort, describe(taskList));
+        assertEquals("sort", journal.undo());
+        assertEquals(beforeSort, describe(taskList));
+        assertEquals("mark", journal.undo());
+        assertNull(taskList.getAll().get(0).getDoneAt());
+
+        assertEquals("mark", journal.redo());
+        assertEquals(LocalDate.parse("2026-01-02"), taskList.getAll().get(0).getDoneAt());
+        assertEquals("sort", journal.redo());
+        assertEquals(afterSort, describe(taskList));
+    }
+
+    @Test
+    public void testCommit_afterUndo_discardsRedoAndRespectsLimit() throws Exception {
+        TaskList taskList = new TaskList();
+        UndoJournal journal = new UndoJournal(taskList, 2);
+        run(journal, "todo", () -> taskList.add(new ToDo("a")));
+        run(journal, "todo", () -> taskList.add(new ToDo("b")));
+        run(journal, "todo", () -> taskList.add(new ToDo("c")));
+        run(journal, "list", () -> { });
+
+        assertEquals(2, journal.getUndoCount());
+        journal.undo();
+        run(journal, "todo", () -> taskList.add(new ToDo("d")));
+
+        assertEquals(0, journal.getRedoCount());
+        assertEquals(List.of("[T][ ] a", "[T][ ] b", "[T][ ] d"), describe(taskList));
+    }
+
+    @Test
+    public void testClear_duringCommand_commandCannotBeUndone() throws Exception {
+        TaskList taskList = new TaskList();
+        UndoJournal journal = new UndoJournal(taskList, 10);
+        run(journal, "todo", () -> taskList.add(new ToDo("a")));
+        run(journal, "archive", () -> {
+            taskList.removeIf(task -> true);
+            journal.clear();
+        });
+
+        assertNull(journal.undo());
+        assertEquals(0, taskList.size());
+    }
+
+    @Test
+    public void testUndo_laterChangeFails_listLeftUnchanged() throws Exception {
+        TaskList taskList = new TaskList();
+        UndoJournal journal = new UndoJournal(taskList, 10);
+        run(journal, "todo", () -> taskList.addAll(List.of(new ToDo("b"), new ToDo("a"))));
+        run(journal, "sort", () -> {
+            taskList.sort((t1, t2) -> t1.getDescription().compareTo(t2.getDescription()));
+            taskList.add(new ToDo("c"));
+        });
+        taskList.removeListener(journal);
+        taskList.add(new ToDo("x"));
+        List<String> before = describe(taskList);
+
+        assertThrows(VoyagerException.class, journal::undo);
+        assertEquals(before, describe(taskList));
+        assertNull(journal.undo());
+    }
+
+    private interface Command {
+        void run() throws Exception;
+    }
+
+    private static void run(UndoJournal journal, String command, Command body) throws Exception {
+        journal.begin(command);
+        try {
+            body.run();
+        } finally {
+            journal.commit();
+        }
+    }
+
+    private static List<String> describe(TaskList taskList) {
+        List<String> lines = new ArrayList<>();
+        for (Task task : taskList.getAll()) {
+            lines.add(task.toString());
+        }
+        return lines;
+    }
+}
@@ -0,0 +1,45 @@
+package voyager.workload;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import voyager.Voyager;
+import voyager.task.Storage;
+import voyager.task.Task;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class TraceReplayerTest {
+    @TempDir
+    Path dir;
+
+    @Test
+    public void testReplay_recordedNonAsciiSession_reproducesTasks() throws Exception {
+        Path traceFile = dir.resolve("session.trace");
+        Voyager recorded = new Voyager(new Storage(dir.resolve("live/voyager.txt").toString()));
+        recorded.loadTasks();
+        recorded.startTraceRecording(traceFile.toFile());
+        recorded.getResponse("todo caf\u00e9 \u65e5\u672c\u8a9e \uD83D\uDE80");
+        recorded.getResponse("deadline r\u00e9sum\u00e9 /by 2026-05-01");
+        recorded.getResponse("mark 1");
+
+        Storage replayed = new Storage(dir.resolve("replay/voyager.txt").toString());
+        new TraceReplayer(replayed).replay(TraceReplayer.readTrace(traceFile), 0);
+
+        List<String> live = describe(new Storage(dir.resolve("live/voyager.txt").toString()));
+        assertEquals("[T][X] caf\u00e9 \u65e5\u672c\u8a9e \uD83D\uDE80", live.get(0));
+        assertEquals(live, describe(replayed));
+    }
+
+    private static List<String> describe(Storage storage) {
+        List<Task> tasks = new ArrayList<>();
+        storage.loadTasks(tasks);
+        List<String> lines = new ArrayList<>();
+        for (Task task : tasks) {
+            lines.add(task.toString());
+        }
+        return lines;
+    }
+}